@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.classify;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of {@link PatternMatcher#match} against a few dozen patterns for an input matched
+ * by a specific pattern, an input matched by a wildcard pattern and an input that only
+ * the default matches, with and without the cache of recent inputs.
+ *
+ * @since 2.0.6
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PatternMatcherBenchmark {
+
+	@Param({ "0", "64" })
+	private int cacheSize;
+
+	private PatternMatcher<String> matcher;
+
+	@Setup
+	public void setup() {
+		Map<String, String> patterns = new LinkedHashMap<>();
+		for (int i = 0; i < 10; i++) {
+			patterns.put("com.example.service" + i + ".*Exception", "service" + i);
+			patterns.put("com.example.client" + i + ".Remote?Exception", "client" + i);
+			patterns.put("*Timeout" + i + "*", "timeout" + i);
+		}
+		patterns.put("java.io.IOException", "io");
+		patterns.put("*", "default");
+		this.matcher = new PatternMatcher<>(patterns, this.cacheSize);
+	}
+
+	@Benchmark
+	public String exact() {
+		return this.matcher.match("java.io.IOException");
+	}
+
+	@Benchmark
+	public String wildcard() {
+		return this.matcher.match("com.example.service7.DataAccessException");
+	}
+
+	@Benchmark
+	public String fallback() {
+		return this.matcher.match("org.example.UnrelatedFailure");
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.classify;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of {@link SubclassClassifier#classify} for a registered type, a subclass of a
+ * registered type (cached after its first lookup) and an unrelated type that falls back
+ * to the default.
+ *
+ * @since 2.0.6
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SubclassClassifierBenchmark {
+
+	private final Throwable exact = new IOException("Planned");
+
+	private final Throwable subclass = new FileNotFoundException("Planned");
+
+	private final Throwable unrelated = new IllegalStateException("Planned");
+
+	private BinaryExceptionClassifier classifier;
+
+	@Setup
+	public void setup() {
+		this.classifier = BinaryExceptionClassifier.builder()
+			.retryOn(IOException.class)
+			.retryOn(TimeoutException.class)
+			.retryOn(SocketTimeoutException.class)
+			.build();
+	}
+
+	@Benchmark
+	public Boolean exact() {
+		return this.classifier.classify(this.exact);
+	}
+
+	@Benchmark
+	public Boolean subclass() {
+		return this.classifier.classify(this.subclass);
+	}
+
+	@Benchmark
+	public Boolean unrelated() {
+		return this.classifier.classify(this.unrelated);
+	}
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.annotation;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Overhead of the {@link Retryable @Retryable} and {@link CircuitBreaker @CircuitBreaker}
+ * proxies on a successful call, compared with a direct call on the same target.
+ *
+ * @since 2.0.6
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RetryableProxyBenchmark {
+
+	private AnnotationConfigApplicationContext context;
+
+	private Service direct;
+
+	private Service retryable;
+
+	private BreakerService circuitBreaker;
+
+	@Setup
+	public void setup() {
+		this.context = new AnnotationConfigApplicationContext(TestConfiguration.class);
+		this.direct = new Service();
+		this.retryable = this.context.getBean(Service.class);
+		this.circuitBreaker = this.context.getBean(BreakerService.class);
+	}
+
+	@TearDown
+	public void close() {
+		this.context.close();
+	}
+
+	@Benchmark
+	public int direct() {
+		return this.direct.service(42);
+	}
+
+	@Benchmark
+	public int retryable() {
+		return this.retryable.service(42);
+	}
+
+	@Benchmark
+	public int circuitBreaker() {
+		return this.circuitBreaker.service(42);
+	}
+
+	@Configuration
+	@EnableRetry
+	public static class TestConfiguration {
+
+		@Bean
+		public Service service() {
+			return new Service();
+		}
+
+		@Bean
+		public BreakerService breakerService() {
+			return new BreakerService();
+		}
+
+	}
+
+	public static class Service {
+
+		@Retryable
+		public int service(int value) {
+			return value + 1;
+		}
+
+	}
+
+	public static class BreakerService {
+
+		@CircuitBreaker
+		public int service(int value) {
+			return value + 1;
+		}
+
+	}
+
+}
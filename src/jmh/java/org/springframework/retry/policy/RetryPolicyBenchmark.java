@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.policy;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.retry.RetryContext;
+
+/**
+ * Cost of the retry decision in {@link SimpleRetryPolicy} and the circuit breaker
+ * policies, for a context that has already seen a failure. With several threads the
+ * circuit breakers are shared, as they are in an application.
+ *
+ * @since 2.0.6
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RetryPolicyBenchmark {
+
+	private final IllegalStateException failure = new IllegalStateException("Planned");
+
+	private SimpleRetryPolicy simple;
+
+	private RetryContext simpleContext;
+
+	private CircuitBreakerRetryPolicy circuitBreaker;
+
+	private RetryContext circuitBreakerContext;
+
+	private SlidingWindowCircuitBreakerRetryPolicy slidingWindow;
+
+	private RetryContext slidingWindowContext;
+
+	@Setup
+	public void setup() {
+		this.simple = new SimpleRetryPolicy(Integer.MAX_VALUE);
+		this.simpleContext = this.simple.open(null);
+		this.simple.registerThrowable(this.simpleContext, this.failure);
+		this.circuitBreaker = new CircuitBreakerRetryPolicy(new AlwaysRetryPolicy());
+		this.circuitBreakerContext = this.circuitBreaker.open(null);
+		this.circuitBreaker.registerThrowable(this.circuitBreakerContext, this.failure);
+		this.slidingWindow = new SlidingWindowCircuitBreakerRetryPolicy();
+		this.slidingWindowContext = this.slidingWindow.open(null);
+	}
+
+	@Benchmark
+	public boolean simpleCanRetry() {
+		return this.simple.canRetry(this.simpleContext);
+	}
+
+	@Benchmark
+	public boolean circuitBreakerCanRetry() {
+		return this.circuitBreaker.canRetry(this.circuitBreakerContext);
+	}
+
+	@Benchmark
+	public boolean slidingWindowCall() {
+		// a whole successful call: permission, outcome and release
+		boolean permitted = this.slidingWindow.canRetry(this.slidingWindowContext);
+		this.slidingWindow.close(this.slidingWindowContext);
+		return permitted;
+	}
+
+}
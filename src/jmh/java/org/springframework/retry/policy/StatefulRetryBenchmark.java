@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.policy;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryState;
+import org.springframework.retry.support.DefaultRetryState;
+import org.springframework.retry.support.RetryTemplate;
+
+/**
+ * Stateful retry through a shared {@link RetryContextCache}: every call fails on its
+ * first attempt and succeeds when it is retried, so each key goes through a put, a get
+ * and a remove. Each thread has its own keys, as a stateful retry of one item would, so
+ * the threads only contend on the cache itself; compare the one, four and all threads
+ * variants with few keys to measure that contention.
+ *
+ * @since 2.0.6
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatefulRetryBenchmark {
+
+	private static final IllegalStateException FAILURE = new IllegalStateException("Planned");
+
+	@Param({ "map", "concurrent" })
+	public String cache;
+
+	/**
+	 * The number of keys of each thread.
+	 */
+	@Param({ "16", "4096" })
+	public int keys;
+
+	private final RetryCallback<Object, IllegalStateException> callback = context -> {
+		if (context.getRetryCount() == 0) {
+			throw FAILURE;
+		}
+		return Boolean.TRUE;
+	};
+
+	private RetryTemplate template;
+
+	@Setup
+	public void setup(BenchmarkParams params) {
+		// room for the keys of every thread, so that none is evicted between two calls
+		int capacity = this.keys * params.getThreads() * 2;
+		this.template = new RetryTemplate();
+		this.template.setRetryPolicy(new SimpleRetryPolicy(2));
+		this.template.setRetryContextCache("map".equals(this.cache) ? new MapRetryContextCache(capacity)
+				: new ConcurrentRetryContextCache(capacity, 0));
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Object oneThread(Keys keys) {
+		return failThenSucceed(keys);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Object fourThreads(Keys keys) {
+		return failThenSucceed(keys);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public Object allThreads(Keys keys) {
+		return failThenSucceed(keys);
+	}
+
+	private Object failThenSucceed(Keys keys) {
+		RetryState state = keys.states[ThreadLocalRandom.current().nextInt(keys.states.length)];
+		try {
+			this.template.execute(this.callback, state);
+		}
+		catch (IllegalStateException ex) {
+			// stateful retry rethrows; the next call with the same key retries
+		}
+		return this.template.execute(this.callback, state);
+	}
+
+	/**
+	 * The keys of one thread.
+	 */
+	@State(Scope.Thread)
+	public static class Keys {
+
+		private RetryState[] states;
+
+		@Setup
+		public void setup(StatefulRetryBenchmark benchmark, ThreadParams thread) {
+			this.states = new RetryState[benchmark.keys];
+			for (int i = 0; i < benchmark.keys; i++) {
+				this.states[i] = new DefaultRetryState("key-" + thread.getThreadIndex() + "-" + i);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.support;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.retry.RecoveryCallback;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+
+/**
+ * Throughput of {@link RetryTemplate#execute} on the success path and the cost of
+ * failed attempts, without back off so that only the template overhead is measured.
+ * Each benchmark runs with the retry state started eagerly and with
+ * {@link RetryTemplate#setLazyRetryState(boolean) lazyRetryState}.
+ *
+ * @since 2.0.6
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RetryTemplateBenchmark {
+
+	private static final PlannedException FAILURE = new PlannedException();
+
+	private final RetryCallback<Object, RuntimeException> success = context -> Boolean.TRUE;
+
+	private final RetryCallback<Object, RuntimeException> failOnce = context -> {
+		if (context.getRetryCount() == 0) {
+			throw FAILURE;
+		}
+		return Boolean.TRUE;
+	};
+
+	private final RetryCallback<Object, RuntimeException> failAlways = context -> {
+		throw FAILURE;
+	};
+
+	private final RecoveryCallback<Object> recovery = context -> Boolean.FALSE;
+
+	@Param({ "false", "true" })
+	private boolean lazyRetryState;
+
+	private RetryTemplate template;
+
+	@Setup
+	public void setup() {
+		this.template = new RetryTemplate();
+		this.template.setRetryPolicy(new SimpleRetryPolicy(3));
+		this.template.setLazyRetryState(this.lazyRetryState);
+	}
+
+	@Benchmark
+	public Object success() {
+		return this.template.execute(this.success);
+	}
+
+	@Benchmark
+	public Object failOnce() {
+		return this.template.execute(this.failOnce);
+	}
+
+	@Benchmark
+	public Object exhaustedAndRecovered() {
+		return this.template.execute(this.failAlways, this.recovery);
+	}
+
+	/**
+	 * Preallocated and without a stack trace, so that the benchmarks measure the retry
+	 * machinery and not exception construction.
+	 */
+	@SuppressWarnings("serial")
+	static final class PlannedException extends RuntimeException {
+
+		PlannedException() {
+			super("Planned", null, false, false);
+		}
+
+	}
+
+}
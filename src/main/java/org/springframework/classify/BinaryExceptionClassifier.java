@@ -20,6 +20,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.util.Assert;
+
 /**
  * A {@link Classifier} for exceptions that has only two classes (true and false).
  * Classifies objects according to their inheritance relation with the supplied types. If
@@ -36,6 +38,8 @@ public class BinaryExceptionClassifier extends SubclassClassifier<Throwable, Boo
 
 	private boolean traverseCauses;
 
+	private volatile boolean frozen;
+
 	public static BinaryExceptionClassifierBuilder builder() {
 		return new BinaryExceptionClassifierBuilder();
 	}
@@ -114,33 +118,83 @@ public class BinaryExceptionClassifier extends SubclassClassifier<Throwable, Boo
 	}
 
 	public void setTraverseCauses(boolean traverseCauses) {
+		assertNotFrozen();
 		this.traverseCauses = traverseCauses;
 	}
 
+	@Override
+	public void setTypeMap(Map<Class<? extends Throwable>, Boolean> map) {
+		assertNotFrozen();
+		super.setTypeMap(map);
+	}
+
+	@Override
+	public void add(Class<? extends Throwable> type, Boolean target) {
+		assertNotFrozen();
+		super.add(type, target);
+	}
+
+	@Override
+	public void setDefaultValue(Boolean defaultValue) {
+		assertNotFrozen();
+		super.setDefaultValue(defaultValue);
+	}
+
+	/**
+	 * Freeze the rule set: any further attempt to change the type map, the default value
+	 * or the cause traversal fails with an {@link IllegalStateException}. A frozen
+	 * classifier can be shared freely, and the per-type decisions it has memoized are
+	 * never discarded.
+	 * @return this classifier
+	 * @since 2.0.6
+	 */
+	public BinaryExceptionClassifier freeze() {
+		this.frozen = true;
+		return this;
+	}
+
+	/**
+	 * Return whether the rule set has been {@link #freeze() frozen}.
+	 * @return true if the rule set can no longer be changed
+	 * @since 2.0.6
+	 */
+	public boolean isFrozen() {
+		return this.frozen;
+	}
+
 	@Override
 	public Boolean classify(Throwable classifiable) {
-		Boolean classified = super.classify(classifiable);
-		if (!this.traverseCauses) {
-			return classified;
+		if (!this.traverseCauses || classifiable == null) {
+			return super.classify(classifiable);
 		}
 
 		/*
-		 * If the result is the default, we need to find out if it was by default or so
-		 * configured; if default, try the cause(es).
+		 * The first exception in the chain with a configured classification (on itself or
+		 * on one of its ancestors) decides; each link is a single memoized lookup. The
+		 * second reference follows at half speed so that a cycle in the chain is detected
+		 * when the two meet, without having to remember the links already visited.
 		 */
-		if (classified.equals(this.getDefault())) {
-			Throwable cause = classifiable;
-			do {
-				if (this.getClassified().containsKey(cause.getClass())) {
-					return classified; // non-default classification
-				}
-				cause = cause.getCause();
-				classified = super.classify(cause);
+		Throwable cause = classifiable;
+		Throwable trailing = classifiable;
+		boolean advance = false;
+		do {
+			Boolean classified = findClassification(cause.getClass());
+			if (classified != null) {
+				return classified;
+			}
+			cause = cause.getCause();
+			if (advance) {
+				trailing = trailing.getCause();
 			}
-			while (cause != null && classified.equals(this.getDefault()));
+			advance = !advance;
 		}
+		while (cause != null && cause != trailing);
+
+		return getDefault();
+	}
 
-		return classified;
+	private void assertNotFrozen() {
+		Assert.state(!this.frozen, "The rule set of a frozen classifier cannot be changed");
 	}
 
 }
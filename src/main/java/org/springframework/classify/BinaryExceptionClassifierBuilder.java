@@ -52,6 +52,8 @@ public class BinaryExceptionClassifierBuilder {
 
 	private boolean traverseCauses = false;
 
+	private boolean frozen = false;
+
 	private final List<Class<? extends Throwable>> exceptionClasses = new ArrayList<>();
 
 	public BinaryExceptionClassifierBuilder retryOn(Class<? extends Throwable> throwable) {
@@ -76,6 +78,18 @@ public class BinaryExceptionClassifierBuilder {
 		return this;
 	}
 
+	/**
+	 * Freeze the rule set of the built classifier, so that it can no longer be changed
+	 * and its memoized decisions are never discarded.
+	 * @return this builder
+	 * @since 2.0.6
+	 * @see BinaryExceptionClassifier#freeze()
+	 */
+	public BinaryExceptionClassifierBuilder frozen() {
+		this.frozen = true;
+		return this;
+	}
+
 	public BinaryExceptionClassifier build() {
 		Assert.isTrue(!exceptionClasses.isEmpty(),
 				"Attempt to build classifier with empty rules. To build always true, or always false "
@@ -93,6 +107,9 @@ public class BinaryExceptionClassifierBuilder {
 																											// retryable)
 		);
 		classifier.setTraverseCauses(traverseCauses);
+		if (frozen) {
+			classifier.freeze();
+		}
 		return classifier;
 	}
 
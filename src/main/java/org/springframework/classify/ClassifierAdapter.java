@@ -82,6 +82,7 @@ public class ClassifierAdapter<C, T> implements Classifier<C, T> {
 		}
 		Assert.state(this.invoker != null, "No single argument public method with or without "
 				+ "@Classifier was found in delegate of type " + delegate.getClass());
+		this.invoker = MethodInvokerUtils.toMethodHandleInvoker(this.invoker);
 	}
 
 	/**
@@ -16,39 +16,67 @@
 package org.springframework.classify;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 import org.springframework.util.Assert;
 
 /**
+ * Matches strings against a set of patterns with wildcards, picking the most specific
+ * pattern that matches. The patterns are compiled once into a trie of their literal
+ * prefixes, so only the patterns that can possibly match a line are tried, and matching
+ * does not allocate. An optional bounded cache remembers the outcome for recently matched
+ * lines.
+ *
  * @author Dave Syer
  * @author Dan Garrette
  * @param <S> the type of the thing to match a pattern on
  */
 public class PatternMatcher<S> {
 
-	private Map<String, S> map = new HashMap<>();
+	private final String[] patterns;
+
+	private final Object[] values;
 
-	private List<String> sorted = new ArrayList<>();
+	private final Node root;
+
+	private final CacheEntry[] cache;
 
 	/**
 	 * Initialize a new {@link PatternMatcher} with a map of patterns to values
 	 * @param map a map from String patterns to values
 	 */
 	public PatternMatcher(Map<String, S> map) {
+		this(map, 0);
+	}
+
+	/**
+	 * Initialize a new {@link PatternMatcher} with a map of patterns to values and a
+	 * bounded cache of the values most recently matched.
+	 * @param map a map from String patterns to values
+	 * @param cacheSize the maximum number of lines whose value is cached (rounded up to a
+	 * power of two), or 0 for no cache
+	 * @since 2.0.6
+	 */
+	public PatternMatcher(Map<String, S> map, int cacheSize) {
 		super();
-		this.map = map;
+		Assert.isTrue(cacheSize >= 0, "'cacheSize' must not be negative");
 		// Sort keys to start with the most specific
-		this.sorted = new ArrayList<>(map.keySet());
-		this.sorted.sort((o1, o2) -> {
-			String s1 = o1; // .replace('?', '{');
-			String s2 = o2; // .replace('*', '}');
-			return s2.compareTo(s1);
-		});
+		List<String> sorted = new ArrayList<>(map.keySet());
+		sorted.sort(Comparator.reverseOrder());
+		this.patterns = sorted.toArray(new String[0]);
+		this.values = new Object[this.patterns.length];
+		TrieBuilder builder = new TrieBuilder();
+		for (int rank = 0; rank < this.patterns.length; rank++) {
+			this.values[rank] = map.get(this.patterns[rank]);
+			builder.add(this.patterns[rank], rank);
+		}
+		this.root = builder.build();
+		this.cache = (cacheSize > 0) ? new CacheEntry[Integer.highestOneBit(Math.min(cacheSize, 1 << 29) * 2 - 1)]
+				: null;
 	}
 
 	/**
@@ -63,15 +91,13 @@ public class PatternMatcher<S> {
 	 * <code>false</code> otherwise.
 	 */
 	public static boolean match(String pattern, String str) {
-		char[] patArr = pattern.toCharArray();
-		char[] strArr = str.toCharArray();
 		int patIdxStart = 0;
-		int patIdxEnd = patArr.length - 1;
+		int patIdxEnd = pattern.length() - 1;
 		int strIdxStart = 0;
-		int strIdxEnd = strArr.length - 1;
+		int strIdxEnd = str.length() - 1;
 		char ch;
 
-		boolean containsStar = pattern.contains("*");
+		boolean containsStar = pattern.indexOf('*') >= 0;
 
 		if (!containsStar) {
 			// No '*'s, so we make a shortcut
@@ -79,9 +105,9 @@ public class PatternMatcher<S> {
 				return false; // Pattern and string do not have the same size
 			}
 			for (int i = 0; i <= patIdxEnd; i++) {
-				ch = patArr[i];
+				ch = pattern.charAt(i);
 				if (ch != '?') {
-					if (ch != strArr[i]) {
+					if (ch != str.charAt(i)) {
 						return false;// Character mismatch
 					}
 				}
@@ -94,9 +120,9 @@ public class PatternMatcher<S> {
 		}
 
 		// Process characters before first star
-		while ((ch = patArr[patIdxStart]) != '*' && strIdxStart <= strIdxEnd) {
+		while ((ch = pattern.charAt(patIdxStart)) != '*' && strIdxStart <= strIdxEnd) {
 			if (ch != '?') {
-				if (ch != strArr[strIdxStart]) {
+				if (ch != str.charAt(strIdxStart)) {
 					return false;// Character mismatch
 				}
 			}
@@ -107,7 +133,7 @@ public class PatternMatcher<S> {
 			// All characters in the string are used. Check if only '*'s are
 			// left in the pattern. If so, we succeeded. Otherwise failure.
 			for (int i = patIdxStart; i <= patIdxEnd; i++) {
-				if (patArr[i] != '*') {
+				if (pattern.charAt(i) != '*') {
 					return false;
 				}
 			}
@@ -115,9 +141,9 @@ public class PatternMatcher<S> {
 		}
 
 		// Process characters after last star
-		while ((ch = patArr[patIdxEnd]) != '*' && strIdxStart <= strIdxEnd) {
+		while ((ch = pattern.charAt(patIdxEnd)) != '*' && strIdxStart <= strIdxEnd) {
 			if (ch != '?') {
-				if (ch != strArr[strIdxEnd]) {
+				if (ch != str.charAt(strIdxEnd)) {
 					return false;// Character mismatch
 				}
 			}
@@ -128,7 +154,7 @@ public class PatternMatcher<S> {
 			// All characters in the string are used. Check if only '*'s are
 			// left in the pattern. If so, we succeeded. Otherwise failure.
 			for (int i = patIdxStart; i <= patIdxEnd; i++) {
-				if (patArr[i] != '*') {
+				if (pattern.charAt(i) != '*') {
 					return false;
 				}
 			}
@@ -140,7 +166,7 @@ public class PatternMatcher<S> {
 		while (patIdxStart != patIdxEnd && strIdxStart <= strIdxEnd) {
 			int patIdxTmp = -1;
 			for (int i = patIdxStart + 1; i <= patIdxEnd; i++) {
-				if (patArr[i] == '*') {
+				if (pattern.charAt(i) == '*') {
 					patIdxTmp = i;
 					break;
 				}
@@ -157,9 +183,9 @@ public class PatternMatcher<S> {
 			int foundIdx = -1;
 			strLoop: for (int i = 0; i <= strLength - patLength; i++) {
 				for (int j = 0; j < patLength; j++) {
-					ch = patArr[patIdxStart + j + 1];
+					ch = pattern.charAt(patIdxStart + j + 1);
 					if (ch != '?') {
-						if (ch != strArr[strIdxStart + i + j]) {
+						if (ch != str.charAt(strIdxStart + i + j)) {
 							continue strLoop;
 						}
 					}
@@ -180,7 +206,7 @@ public class PatternMatcher<S> {
 		// All characters in the string are used. Check if only '*'s are left
 		// in the pattern. If so, we succeeded. Otherwise failure.
 		for (int i = patIdxStart; i <= patIdxEnd; i++) {
-			if (patArr[i] != '*') {
+			if (pattern.charAt(i) != '*') {
 				return false;
 			}
 		}
@@ -206,20 +232,142 @@ public class PatternMatcher<S> {
 	 */
 	public S match(String line) {
 
-		S value = null;
 		Assert.notNull(line, "A non-null key must be provided to match against.");
 
-		for (String key : this.sorted) {
-			if (PatternMatcher.match(key, line)) {
-				value = this.map.get(key);
+		CacheEntry[] cache = this.cache;
+		int slot = 0;
+		if (cache != null) {
+			slot = spread(line.hashCode()) & (cache.length - 1);
+			CacheEntry entry = cache[slot];
+			if (entry != null && entry.line.equals(line)) {
+				return value(entry.rank, line);
+			}
+		}
+
+		int rank = find(line);
+		S value = value(rank, line);
+		if (cache != null) {
+			cache[slot] = new CacheEntry(line, rank);
+		}
+		return value;
+
+	}
+
+	/**
+	 * Find the rank of the most specific pattern matching the line. Only the patterns
+	 * whose literal prefix (up to the first wildcard) is a prefix of the line are
+	 * candidates, and they are reached by walking the trie of literal prefixes along the
+	 * line; candidates are tried in order of specificity, skipping those less specific
+	 * than the best match found so far.
+	 */
+	private int find(String line) {
+		int best = Integer.MAX_VALUE;
+		Node node = this.root;
+		int index = 0;
+		while (node != null) {
+			for (int rank : node.ranks) {
+				if (rank >= best) {
+					break;
+				}
+				if (match(this.patterns[rank], line)) {
+					best = rank;
+					break;
+				}
+			}
+			if (index == line.length()) {
 				break;
 			}
+			node = node.child(line.charAt(index++));
 		}
+		return best;
+	}
 
+	@SuppressWarnings("unchecked")
+	private S value(int rank, String line) {
+		S value = (rank < this.values.length) ? (S) this.values[rank] : null;
 		if (value == null) {
 			throw new IllegalStateException("Could not find a matching pattern for key=[" + line + "]");
 		}
 		return value;
+	}
+
+	private static int spread(int hash) {
+		return hash ^ (hash >>> 16);
+	}
+
+	/**
+	 * A node of the trie of literal pattern prefixes, keyed by the next character.
+	 * Children are kept in arrays sorted by character for a binary search.
+	 */
+	private static final class Node {
+
+		private final char[] keys;
+
+		private final Node[] children;
+
+		/**
+		 * The ranks of the patterns whose literal prefix ends here, most specific first.
+		 */
+		private final int[] ranks;
+
+		private Node(char[] keys, Node[] children, int[] ranks) {
+			this.keys = keys;
+			this.children = children;
+			this.ranks = ranks;
+		}
+
+		private Node child(char key) {
+			int index = Arrays.binarySearch(this.keys, key);
+			return (index >= 0) ? this.children[index] : null;
+		}
+
+	}
+
+	private static final class TrieBuilder {
+
+		private final TreeMap<Character, TrieBuilder> children = new TreeMap<>();
+
+		private final List<Integer> ranks = new ArrayList<>();
+
+		private void add(String pattern, int rank) {
+			TrieBuilder builder = this;
+			for (int i = 0; i < pattern.length(); i++) {
+				char ch = pattern.charAt(i);
+				if (ch == '*' || ch == '?') {
+					break;
+				}
+				builder = builder.children.computeIfAbsent(ch, key -> new TrieBuilder());
+			}
+			builder.ranks.add(rank);
+		}
+
+		private Node build() {
+			char[] keys = new char[this.children.size()];
+			Node[] nodes = new Node[this.children.size()];
+			int index = 0;
+			for (Map.Entry<Character, TrieBuilder> child : this.children.entrySet()) {
+				keys[index] = child.getKey();
+				nodes[index++] = child.getValue().build();
+			}
+			// ranks are added in ascending order
+			return new Node(keys, nodes, this.ranks.stream().mapToInt(Integer::intValue).toArray());
+		}
+
+	}
+
+	/**
+	 * Immutable, so safely published to other threads through the plain cache array.
+	 */
+	private static final class CacheEntry {
+
+		private final String line;
+
+		private final int rank;
+
+		private CacheEntry(String line, int rank) {
+			this.line = line;
+			this.rank = rank;
+		}
 
 	}
 
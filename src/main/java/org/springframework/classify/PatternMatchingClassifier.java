@@ -18,6 +18,8 @@ package org.springframework.classify;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.util.Assert;
+
 /**
  * A {@link Classifier} that maps from String patterns with wildcards to a set of values
  * of a given type. An input String is matched with the most specific pattern possible to
@@ -30,7 +32,11 @@ import java.util.Map;
 @SuppressWarnings("serial")
 public class PatternMatchingClassifier<T> implements Classifier<String, T> {
 
-	private PatternMatcher<T> values;
+	private volatile PatternMatcher<T> values;
+
+	private Map<String, T> patternMap;
+
+	private int cacheSize;
 
 	/**
 	 * Default constructor. Use the setter or the other constructor to create a sensible
@@ -47,7 +53,7 @@ public class PatternMatchingClassifier<T> implements Classifier<String, T> {
 	 */
 	public PatternMatchingClassifier(Map<String, T> values) {
 		super();
-		this.values = new PatternMatcher<>(values);
+		setPatternMap(values);
 	}
 
 	/**
@@ -55,7 +61,22 @@ public class PatternMatchingClassifier<T> implements Classifier<String, T> {
 	 * @param values the pattern map to set
 	 */
 	public void setPatternMap(Map<String, T> values) {
-		this.values = new PatternMatcher<>(values);
+		this.patternMap = values;
+		this.values = new PatternMatcher<>(values, this.cacheSize);
+	}
+
+	/**
+	 * The number of recently classified inputs whose value is cached, so that repeated
+	 * inputs are not matched against the patterns again. Defaults to 0 (no cache). May be
+	 * set before or after the pattern map.
+	 * @param cacheSize the cache size to set
+	 * @since 2.0.6
+	 */
+	public void setCacheSize(int cacheSize) {
+		Assert.isTrue(cacheSize >= 0, "'cacheSize' must not be negative");
+		this.cacheSize = cacheSize;
+		// rebuilt with the new size on the next classification
+		this.values = null;
 	}
 
 	/**
@@ -67,7 +88,12 @@ public class PatternMatchingClassifier<T> implements Classifier<String, T> {
 	 */
 	@Override
 	public T classify(String classifiable) {
-		T value = this.values.match(classifiable);
+		PatternMatcher<T> values = this.values;
+		if (values == null) {
+			values = new PatternMatcher<>(this.patternMap, this.cacheSize);
+			this.values = values;
+		}
+		T value = values.match(classifiable);
 		return value;
 	}
 
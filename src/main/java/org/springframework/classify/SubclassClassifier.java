@@ -26,6 +26,10 @@ import java.util.concurrent.ConcurrentMap;
  * classified is one of the keys of the provided map, or is a subclass of one of the keys,
  * then the map entry value for that key is returned. Otherwise, returns the default value
  * which is null by default.
+ * <p>
+ * The configured type map is not modified by {@link #classify(Object)}: the result of
+ * walking the hierarchy of each classified type is kept in a {@link ClassValue} instead,
+ * which does not pin classes (and their class loaders) in memory.
  *
  * @author Dave Syer
  * @author Gary Russell
@@ -36,10 +40,14 @@ import java.util.concurrent.ConcurrentMap;
 @SuppressWarnings("serial")
 public class SubclassClassifier<T, C> implements Classifier<T, C> {
 
+	private static final Object NONE = new Object();
+
 	private ConcurrentMap<Class<? extends T>, C> classified;
 
 	private C defaultValue;
 
+	private transient volatile ClassValue<Object> resolved;
+
 	/**
 	 * Create a {@link SubclassClassifier} with null default value.
 	 */
@@ -64,6 +72,7 @@ public class SubclassClassifier<T, C> implements Classifier<T, C> {
 		super();
 		this.classified = new ConcurrentHashMap<>(typeMap);
 		this.defaultValue = defaultValue;
+		this.resolved = new Resolved();
 	}
 
 	/**
@@ -83,6 +92,7 @@ public class SubclassClassifier<T, C> implements Classifier<T, C> {
 	 */
 	public void setTypeMap(Map<Class<? extends T>, C> map) {
 		this.classified = new ConcurrentHashMap<>(map);
+		this.resolved = new Resolved();
 	}
 
 	/**
@@ -93,6 +103,7 @@ public class SubclassClassifier<T, C> implements Classifier<T, C> {
 	 */
 	public void add(Class<? extends T> type, C target) {
 		this.classified.put(type, target);
+		this.resolved = new Resolved();
 	}
 
 	/**
@@ -106,26 +117,52 @@ public class SubclassClassifier<T, C> implements Classifier<T, C> {
 		if (classifiable == null) {
 			return this.defaultValue;
 		}
+		C value = findClassification(classifiable.getClass());
+		return value != null ? value : this.defaultValue;
+	}
 
-		@SuppressWarnings("unchecked")
-		Class<? extends T> exceptionClass = (Class<? extends T>) classifiable.getClass();
-		if (this.classified.containsKey(exceptionClass)) {
-			return this.classified.get(exceptionClass);
+	/**
+	 * Return the value from the type map for the given type or its nearest ancestor,
+	 * without falling back to the default value. The outcome of the hierarchy walk is
+	 * memoized per type, so repeated lookups for the same type are a single
+	 * {@link ClassValue} read and the configured type map is never modified.
+	 * @param type the type to look up
+	 * @return the mapped value, or null if neither the type nor any of its ancestors is
+	 * mapped
+	 * @since 2.0.6
+	 */
+	@SuppressWarnings("unchecked")
+	protected C findClassification(Class<?> type) {
+		ClassValue<Object> resolved = this.resolved;
+		if (resolved == null) {
+			// only after deserialization
+			resolved = new Resolved();
+			this.resolved = resolved;
+		}
+		Object value = resolved.get(type);
+		return value == NONE ? null : (C) value;
+	}
+
+	private C resolve(Class<?> type) {
+		Map<Class<? extends T>, C> classified = this.classified;
+		C value = classified.get(type);
+		if (value != null) {
+			return value;
 		}
 
 		// check for subclasses
-		C value = null;
-		for (Class<?> cls = exceptionClass.getSuperclass(); !cls.equals(Object.class)
+		for (Class<?> cls = type.getSuperclass(); cls != null && !cls.equals(Object.class)
 				&& value == null; cls = cls.getSuperclass()) {
 
-			value = this.classified.get(cls);
+			value = classified.get(cls);
 		}
 
 		// check for interfaces subclasses
 		if (value == null) {
-			for (Class<?> cls = exceptionClass; !cls.equals(Object.class) && value == null; cls = cls.getSuperclass()) {
+			for (Class<?> cls = type; cls != null && !cls.equals(Object.class)
+					&& value == null; cls = cls.getSuperclass()) {
 				for (Class<?> ifc : cls.getInterfaces()) {
-					value = this.classified.get(ifc);
+					value = classified.get(ifc);
 					if (value != null) {
 						break;
 					}
@@ -133,15 +170,6 @@ public class SubclassClassifier<T, C> implements Classifier<T, C> {
 			}
 		}
 
-		// ConcurrentHashMap doesn't allow nulls
-		if (value != null) {
-			this.classified.put(exceptionClass, value);
-		}
-
-		if (value == null) {
-			value = this.defaultValue;
-		}
-
 		return value;
 	}
 
@@ -157,4 +185,17 @@ public class SubclassClassifier<T, C> implements Classifier<T, C> {
 		return this.classified;
 	}
 
+	/**
+	 * Per-type memo of the hierarchy walk; discarded whenever the type map changes.
+	 */
+	private final class Resolved extends ClassValue<Object> {
+
+		@Override
+		protected Object computeValue(Class<?> type) {
+			C value = resolve(type);
+			return value != null ? value : NONE;
+		}
+
+	}
+
 }
@@ -176,6 +176,34 @@ public class MethodInvokerUtils {
 		}
 	}
 
+	/**
+	 * Create a {@link MethodInvoker} that invokes the method through a
+	 * {@link java.lang.invoke.MethodHandle} instead of core reflection.
+	 * @param object to be invoked
+	 * @param method the method to invoke
+	 * @return a {@link MethodHandleMethodInvoker}
+	 * @since 2.0.6
+	 */
+	public static MethodInvoker getMethodHandleInvoker(Object object, Method method) {
+		return new MethodHandleMethodInvoker(object, method);
+	}
+
+	/**
+	 * Switch a {@link MethodInvoker} created by the other methods of this class to one
+	 * that invokes the same method through a {@link java.lang.invoke.MethodHandle}. Other
+	 * invokers (and null) are returned as they are.
+	 * @param invoker the invoker to switch
+	 * @return the equivalent method handle invoker, or the invoker itself
+	 * @since 2.0.6
+	 */
+	public static MethodInvoker toMethodHandleInvoker(MethodInvoker invoker) {
+		if (invoker instanceof SimpleMethodInvoker) {
+			SimpleMethodInvoker simple = (SimpleMethodInvoker) invoker;
+			return getMethodHandleInvoker(simple.getObject(), simple.getMethod());
+		}
+		return invoker;
+	}
+
 	/**
 	 * Create a {@link MethodInvoker} for the delegate from a single public method.
 	 * @param target an object to search for an appropriate method
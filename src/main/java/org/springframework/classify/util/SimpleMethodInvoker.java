@@ -94,27 +94,45 @@ public class SimpleMethodInvoker implements MethodInvoker {
 
 	private Object extractTarget(Object target, Method method) {
 		if (this.target == null) {
-			if (target instanceof Advised) {
-				Object source;
-				try {
-					source = ((Advised) target).getTargetSource().getTarget();
-				}
-				catch (Exception e) {
-					throw new IllegalStateException("Could not extract target from proxy", e);
-				}
-				if (source instanceof Advised) {
-					source = extractTarget(source, method);
-				}
-				if (method.getDeclaringClass().isAssignableFrom(source.getClass())) {
-					target = source;
-				}
-			}
-			this.target = target;
-
+			this.target = resolveTarget(target, method);
 		}
 		return this.target;
 	}
 
+	/**
+	 * Unwrap the target from (possibly nested) {@link Advised} proxies, as long as it
+	 * declares the method.
+	 * @param target the object to invoke
+	 * @param method the method to invoke
+	 * @return the object the method should be invoked on
+	 */
+	static Object resolveTarget(Object target, Method method) {
+		if (target instanceof Advised) {
+			Object source;
+			try {
+				source = ((Advised) target).getTargetSource().getTarget();
+			}
+			catch (Exception e) {
+				throw new IllegalStateException("Could not extract target from proxy", e);
+			}
+			if (source instanceof Advised) {
+				source = resolveTarget(source, method);
+			}
+			if (method.getDeclaringClass().isAssignableFrom(source.getClass())) {
+				target = source;
+			}
+		}
+		return target;
+	}
+
+	Object getObject() {
+		return this.object;
+	}
+
+	Method getMethod() {
+		return this.method;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (!(obj instanceof SimpleMethodInvoker)) {
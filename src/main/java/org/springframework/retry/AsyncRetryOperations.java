@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Defines the basic set of operations implemented by asynchronous {@link RetryOperations}
+ * variants. The callbacks return a {@link CompletionStage} and the retry never blocks the
+ * calling thread: a failed stage is retried after the back off period has elapsed, and
+ * the outcome of the whole retry is reported through the returned
+ * {@link CompletableFuture}.
+ *
+ * @since 2.0.6
+ * @see RetryOperations
+ */
+public interface AsyncRetryOperations {
+
+	/**
+	 * Execute the supplied {@link RetryCallback} with the configured retry semantics,
+	 * without blocking the caller. See implementations for configuration details.
+	 * @param retryCallback the {@link RetryCallback} returning the stage of one attempt
+	 * @param <T> the type of the value the stage completes with
+	 * @param <E> the exception the callback may throw synchronously
+	 * @return a future completed with the value of the first successful attempt, or
+	 * completed exceptionally with the last exception once the retry is exhausted.
+	 */
+	<T, E extends Throwable> CompletableFuture<T> execute(RetryCallback<? extends CompletionStage<T>, E> retryCallback);
+
+	/**
+	 * Execute the supplied {@link RetryCallback} with a fallback on exhausted retry to
+	 * the {@link RecoveryCallback}, without blocking the caller. See implementations for
+	 * configuration details.
+	 * @param retryCallback the {@link RetryCallback} returning the stage of one attempt
+	 * @param recoveryCallback the {@link RecoveryCallback}
+	 * @param <T> the type of the value the stage completes with
+	 * @param <E> the exception the callback may throw synchronously
+	 * @return a future completed with the value of the first successful attempt, or with
+	 * the value returned by the {@link RecoveryCallback} otherwise.
+	 */
+	<T, E extends Throwable> CompletableFuture<T> execute(RetryCallback<? extends CompletionStage<T>, E> retryCallback,
+			RecoveryCallback<T> recoveryCallback);
+
+}
@@ -55,6 +55,56 @@ public interface RetryStatistics {
 	 */
 	int getRecoveryCount();
 
+	/**
+	 * The same as {@link #getCompleteCount()}, without the risk of overflowing on
+	 * long-lived applications.
+	 * @return the number of completed successful retry attempts.
+	 * @since 2.0.6
+	 */
+	default long getCompleteCountAsLong() {
+		return getCompleteCount();
+	}
+
+	/**
+	 * The same as {@link #getStartedCount()}, without the risk of overflowing on
+	 * long-lived applications.
+	 * @return the number of retry blocks started.
+	 * @since 2.0.6
+	 */
+	default long getStartedCountAsLong() {
+		return getStartedCount();
+	}
+
+	/**
+	 * The same as {@link #getErrorCount()}, without the risk of overflowing on long-lived
+	 * applications.
+	 * @return the number of errors detected.
+	 * @since 2.0.6
+	 */
+	default long getErrorCountAsLong() {
+		return getErrorCount();
+	}
+
+	/**
+	 * The same as {@link #getAbortCount()}, without the risk of overflowing on long-lived
+	 * applications.
+	 * @return the number of retry attempts that failed overall.
+	 * @since 2.0.6
+	 */
+	default long getAbortCountAsLong() {
+		return getAbortCount();
+	}
+
+	/**
+	 * The same as {@link #getRecoveryCount()}, without the risk of overflowing on
+	 * long-lived applications.
+	 * @return the number of recovered attempts.
+	 * @since 2.0.6
+	 */
+	default long getRecoveryCountAsLong() {
+		return getRecoveryCount();
+	}
+
 	/**
 	 * Get an identifier for the retry block for reporting purposes.
 	 * @return an identifier for the block.
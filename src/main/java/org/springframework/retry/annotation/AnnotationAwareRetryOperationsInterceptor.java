@@ -24,7 +24,10 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.naming.OperationNotSupportedException;
 
@@ -32,16 +35,32 @@ import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 
 import org.springframework.aop.IntroductionInterceptor;
+import org.springframework.aop.TargetSource;
+import org.springframework.aop.framework.Advised;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.classify.BinaryExceptionClassifier;
 import org.springframework.context.expression.BeanFactoryResolver;
+import org.springframework.core.MethodClassKey;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.expression.Expression;
 import org.springframework.expression.common.TemplateParserContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.ast.CompoundExpression;
+import org.springframework.expression.spel.ast.FunctionReference;
+import org.springframework.expression.spel.ast.Indexer;
+import org.springframework.expression.spel.ast.MethodReference;
+import org.springframework.expression.spel.ast.Projection;
+import org.springframework.expression.spel.ast.PropertyOrFieldReference;
+import org.springframework.expression.spel.ast.Selection;
+import org.springframework.expression.spel.ast.VariableReference;
+import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.retry.RetryContext;
@@ -57,13 +76,17 @@ import org.springframework.retry.interceptor.MethodInvocationRecoverer;
 import org.springframework.retry.interceptor.NewMethodArgumentsIdentifier;
 import org.springframework.retry.interceptor.RetryInterceptorBuilder;
 import org.springframework.retry.policy.CircuitBreakerRetryPolicy;
+import org.springframework.retry.policy.ConcurrentRetryContextCache;
 import org.springframework.retry.policy.ExpressionRetryPolicy;
 import org.springframework.retry.policy.MapRetryContextCache;
 import org.springframework.retry.policy.RetryContextCache;
 import org.springframework.retry.policy.SimpleRetryPolicy;
+import org.springframework.retry.policy.SlidingWindowCircuitBreakerRetryPolicy;
+import org.springframework.retry.policy.SlidingWindowCircuitBreakerRetryPolicy.SlidingWindowType;
 import org.springframework.retry.support.Args;
 import org.springframework.retry.support.RetrySynchronizationManager;
 import org.springframework.retry.support.RetryTemplate;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
@@ -92,6 +115,8 @@ public class AnnotationAwareRetryOperationsInterceptor implements IntroductionIn
 
 	private final ConcurrentReferenceHashMap<Object, ConcurrentMap<Method, MethodInterceptor>> delegates = new ConcurrentReferenceHashMap<>();
 
+	private final ConcurrentMap<MethodClassKey, RetryPlan> plans = new ConcurrentReferenceHashMap<>();
+
 	private RetryContextCache retryContextCache = new MapRetryContextCache();
 
 	private MethodArgumentsKeyGenerator methodArgumentsKeyGenerator;
@@ -104,6 +129,12 @@ public class AnnotationAwareRetryOperationsInterceptor implements IntroductionIn
 
 	private RetryListener[] globalListeners;
 
+	private boolean compileExpressions;
+
+	private long expressionCacheTimeout;
+
+	private SpelExpressionParser compilingParser;
+
 	/**
 	 * @param sleeper the sleeper to set
 	 */
@@ -133,6 +164,30 @@ public class AnnotationAwareRetryOperationsInterceptor implements IntroductionIn
 		this.newMethodArgumentsIdentifier = newMethodArgumentsIdentifier;
 	}
 
+	/**
+	 * Set whether the expressions evaluated at runtime ({@code maxAttemptsExpression},
+	 * {@code exceptionExpression} and the back off and circuit breaker timeout
+	 * expressions) are compiled by SpEL. Compilation is done in
+	 * {@link SpelCompilerMode#MIXED mixed} mode, so an expression that cannot be compiled
+	 * is still interpreted. Default {@code false}.
+	 * @param compileExpressions true to compile the expressions
+	 * @since 2.0.6
+	 */
+	public void setCompileExpressions(boolean compileExpressions) {
+		this.compileExpressions = compileExpressions;
+	}
+
+	/**
+	 * Set the time in milliseconds for which the value of a runtime expression that does
+	 * not refer to the method arguments (for instance a bean property) is reused before
+	 * it is evaluated again. Default 0: the expressions are evaluated on each use.
+	 * @param expressionCacheTimeout the timeout in milliseconds
+	 * @since 2.0.6
+	 */
+	public void setExpressionCacheTimeout(long expressionCacheTimeout) {
+		this.expressionCacheTimeout = expressionCacheTimeout;
+	}
+
 	/**
 	 * Default retry listeners to apply to all operations.
 	 * @param globalListeners the default listeners
@@ -165,6 +220,51 @@ public class AnnotationAwareRetryOperationsInterceptor implements IntroductionIn
 		}
 	}
 
+	/**
+	 * Build the delegate interceptors of all the {@link Retryable} methods of a proxy
+	 * up-front, rather than on the first call of each method. Proxies without a static
+	 * target (e.g. scoped or pooled) are skipped: their targets are only known when the
+	 * methods are called.
+	 * @param proxy a proxy advised by this interceptor
+	 * @since 2.0.6
+	 */
+	public void initializeDelegates(Advised proxy) {
+		TargetSource targetSource = proxy.getTargetSource();
+		if (!targetSource.isStatic()) {
+			return;
+		}
+		Object target;
+		try {
+			target = targetSource.getTarget();
+		}
+		catch (Exception ex) {
+			throw new IllegalStateException("Could not extract target from proxy", ex);
+		}
+		if (target == null) {
+			return;
+		}
+		// the methods the proxy passes to invoke(): interface methods for a JDK proxy
+		if (!proxy.isProxyTargetClass() && proxy.getProxiedInterfaces().length > 0) {
+			for (Class<?> intf : proxy.getProxiedInterfaces()) {
+				for (Method method : intf.getMethods()) {
+					initializeDelegate(target, method);
+				}
+			}
+		}
+		else {
+			for (Method method : ReflectionUtils.getUniqueDeclaredMethods(target.getClass(),
+					ReflectionUtils.USER_DECLARED_METHODS)) {
+				initializeDelegate(target, method);
+			}
+		}
+	}
+
+	private void initializeDelegate(Object target, Method method) {
+		if (getPlan(target, method).retryable != null) {
+			getDelegate(target, method);
+		}
+	}
+
 	private MethodInterceptor getDelegate(Object target, Method method) {
 		ConcurrentMap<Method, MethodInterceptor> cachedMethods = this.delegates.get(target);
 		if (cachedMethods == null) {
@@ -173,22 +273,14 @@ public class AnnotationAwareRetryOperationsInterceptor implements IntroductionIn
 		MethodInterceptor delegate = cachedMethods.get(method);
 		if (delegate == null) {
 			MethodInterceptor interceptor = NULL_INTERCEPTOR;
-			Retryable retryable = AnnotatedElementUtils.findMergedAnnotation(method, Retryable.class);
-			if (retryable == null) {
-				retryable = classLevelAnnotation(method, Retryable.class);
-			}
-			if (retryable == null) {
-				retryable = findAnnotationOnTarget(target, method, Retryable.class);
-			}
+			RetryPlan plan = getPlan(target, method);
+			Retryable retryable = plan.retryable;
 			if (retryable != null) {
 				if (StringUtils.hasText(retryable.interceptor())) {
 					interceptor = this.beanFactory.getBean(retryable.interceptor(), MethodInterceptor.class);
 				}
-				else if (retryable.stateful()) {
-					interceptor = getStatefulInterceptor(target, method, retryable);
-				}
 				else {
-					interceptor = getStatelessInterceptor(target, method, retryable);
+					interceptor = plan.createInterceptor(target);
 				}
 			}
 			cachedMethods.putIfAbsent(method, interceptor);
@@ -198,6 +290,64 @@ public class AnnotationAwareRetryOperationsInterceptor implements IntroductionIn
 		return delegate == NULL_INTERCEPTOR ? null : delegate;
 	}
 
+	/**
+	 * The retry plan for a method of a target class: built once per class rather than for
+	 * each target instance.
+	 */
+	private RetryPlan getPlan(Object target, Method method) {
+		MethodClassKey key = new MethodClassKey(method, target.getClass());
+		RetryPlan plan = this.plans.get(key);
+		if (plan == null) {
+			plan = createPlan(target, method);
+			RetryPlan existing = this.plans.putIfAbsent(key, plan);
+			if (existing != null) {
+				plan = existing;
+			}
+		}
+		return plan;
+	}
+
+	private RetryPlan createPlan(Object target, Method method) {
+		Retryable retryable = AnnotatedElementUtils.findMergedAnnotation(method, Retryable.class);
+		if (retryable == null) {
+			retryable = classLevelAnnotation(method, Retryable.class);
+		}
+		if (retryable == null) {
+			retryable = findAnnotationOnTarget(target, method, Retryable.class);
+		}
+		if (retryable == null || StringUtils.hasText(retryable.interceptor())) {
+			return new RetryPlan(retryable, null, null, false);
+		}
+		Class<?> targetClass = target.getClass();
+		boolean targetRecoverer = MethodInvocationRecoverer.class.isAssignableFrom(targetClass);
+		RecoverAnnotationRecoveryHandler<?> recoverer = null;
+		if (!targetRecoverer && hasRecoverMethods(targetClass)) {
+			recoverer = new RecoverAnnotationRecoveryHandler<>(targetClass, method);
+		}
+		Function<MethodInvocationRecoverer<?>, MethodInterceptor> factory;
+		if (retryable.stateful()) {
+			CircuitBreaker circuit = AnnotatedElementUtils.findMergedAnnotation(method, CircuitBreaker.class);
+			if (circuit == null) {
+				circuit = findAnnotationOnTarget(target, method, CircuitBreaker.class);
+			}
+			factory = getStatefulInterceptor(method, retryable, circuit);
+		}
+		else {
+			factory = getStatelessInterceptor(retryable);
+		}
+		return new RetryPlan(retryable, factory, recoverer, targetRecoverer);
+	}
+
+	private boolean hasRecoverMethods(Class<?> targetClass) {
+		final AtomicBoolean foundRecoverable = new AtomicBoolean(false);
+		ReflectionUtils.doWithMethods(targetClass, candidate -> {
+			if (AnnotatedElementUtils.findMergedAnnotation(candidate, Recover.class) != null) {
+				foundRecoverable.set(true);
+			}
+		});
+		return foundRecoverable.get();
+	}
+
 	private <A extends Annotation> A findAnnotationOnTarget(Object target, Method method, Class<A> annotation) {
 
 		try {
@@ -225,40 +375,53 @@ public class AnnotationAwareRetryOperationsInterceptor implements IntroductionIn
 		return ann;
 	}
 
-	private MethodInterceptor getStatelessInterceptor(Object target, Method method, Retryable retryable) {
+	private Function<MethodInvocationRecoverer<?>, MethodInterceptor> getStatelessInterceptor(Retryable retryable) {
 		RetryTemplate template = createTemplate(retryable.listeners());
 		template.setRetryPolicy(getRetryPolicy(retryable, true));
 		template.setBackOffPolicy(getBackoffPolicy(retryable.backoff(), true));
-		return RetryInterceptorBuilder.stateless()
+		return recoverer -> RetryInterceptorBuilder.stateless()
 			.retryOperations(template)
 			.label(retryable.label())
-			.recoverer(getRecoverer(target, method))
+			.recoverer(recoverer)
 			.build();
 	}
 
-	private MethodInterceptor getStatefulInterceptor(Object target, Method method, Retryable retryable) {
+	private Function<MethodInvocationRecoverer<?>, MethodInterceptor> getStatefulInterceptor(Method method,
+			Retryable retryable, CircuitBreaker circuit) {
+
 		RetryTemplate template = createTemplate(retryable.listeners());
 		template.setRetryContextCache(this.retryContextCache);
 
-		CircuitBreaker circuit = AnnotatedElementUtils.findMergedAnnotation(method, CircuitBreaker.class);
-		if (circuit == null) {
-			circuit = findAnnotationOnTarget(target, method, CircuitBreaker.class);
-		}
 		if (circuit != null) {
-			RetryPolicy policy = getRetryPolicy(circuit, false);
-			CircuitBreakerRetryPolicy breaker = new CircuitBreakerRetryPolicy(policy);
-			openTimeout(breaker, circuit);
-			resetTimeout(breaker, circuit);
-			template.setRetryPolicy(breaker);
-			template.setBackOffPolicy(new NoBackOffPolicy());
-			String label = circuit.label();
-			if (!StringUtils.hasText(label)) {
-				label = method.toGenericString();
+			MethodArgumentsKeyGenerator keyGenerator = new FixedKeyGenerator("circuit");
+			boolean keyed = StringUtils.hasText(circuit.key());
+			if (keyed) {
+				Expression key = parse(circuit.key());
+				keyGenerator = item -> key.getValue(this.evaluationContext, new Args(item));
+				// circuits live in the cached contexts: keep them apart from other
+				// methods
+				template
+					.setRetryContextCache(new ConcurrentRetryContextCache(circuit.maxKeys(), circuit.keyIdleTimeout()));
+			}
+			if (circuit.failureRateThreshold() > 0 || circuit.slowCallRateThreshold() > 0) {
+				SlidingWindowCircuitBreakerRetryPolicy breaker = getSlidingWindowBreaker(circuit);
+				breaker.setCircuitPerKey(keyed);
+				template.setRetryPolicy(breaker);
+			}
+			else {
+				RetryPolicy policy = getRetryPolicy(circuit, false);
+				CircuitBreakerRetryPolicy breaker = new CircuitBreakerRetryPolicy(policy);
+				openTimeout(breaker, circuit);
+				resetTimeout(breaker, circuit);
+				template.setRetryPolicy(breaker);
 			}
-			return RetryInterceptorBuilder.circuitBreaker()
-				.keyGenerator(new FixedKeyGenerator("circuit"))
+			template.setBackOffPolicy(new NoBackOffPolicy());
+			String label = StringUtils.hasText(circuit.label()) ? circuit.label() : method.toGenericString();
+			MethodArgumentsKeyGenerator circuitKeyGenerator = keyGenerator;
+			return recoverer -> RetryInterceptorBuilder.circuitBreaker()
+				.keyGenerator(circuitKeyGenerator)
 				.retryOperations(template)
-				.recoverer(getRecoverer(target, method))
+				.recoverer(recoverer)
 				.label(label)
 				.build();
 		}
@@ -266,12 +429,12 @@ public class AnnotationAwareRetryOperationsInterceptor implements IntroductionIn
 		template.setRetryPolicy(policy);
 		template.setBackOffPolicy(getBackoffPolicy(retryable.backoff(), false));
 		String label = retryable.label();
-		return RetryInterceptorBuilder.stateful()
+		return recoverer -> RetryInterceptorBuilder.stateful()
 			.keyGenerator(this.methodArgumentsKeyGenerator)
 			.newMethodArgumentsIdentifier(this.newMethodArgumentsIdentifier)
 			.retryOperations(template)
 			.label(label)
-			.recoverer(getRecoverer(target, method))
+			.recoverer(recoverer)
 			.build();
 	}
 
@@ -287,7 +450,7 @@ public class AnnotationAwareRetryOperationsInterceptor implements IntroductionIn
 				}
 			}
 			else {
-				breaker.openTimeoutSupplier(() -> evaluate(parsed, Long.class, false));
+				breaker.openTimeoutSupplier(supplier(parsed, Long.class, false));
 				return;
 			}
 		}
@@ -306,12 +469,60 @@ public class AnnotationAwareRetryOperationsInterceptor implements IntroductionIn
 				}
 			}
 			else {
-				breaker.resetTimeoutSupplier(() -> evaluate(parsed, Long.class, false));
+				breaker.resetTimeoutSupplier(supplier(parsed, Long.class, false));
 			}
 		}
 		breaker.setResetTimeout(circuit.resetTimeout());
 	}
 
+	private SlidingWindowCircuitBreakerRetryPolicy getSlidingWindowBreaker(CircuitBreaker circuit) {
+		SlidingWindowCircuitBreakerRetryPolicy breaker = new SlidingWindowCircuitBreakerRetryPolicy();
+		breaker.setSlidingWindowType(SlidingWindowType.TIME_BASED);
+		breaker.setSlidingWindowSize(circuit.slidingWindowSize());
+		breaker.setMinimumNumberOfCalls(circuit.minimumNumberOfCalls());
+		breaker.setFailureRateThreshold(circuit.failureRateThreshold() > 0 ? circuit.failureRateThreshold() : 100);
+		breaker.setSlowCallRateThreshold(circuit.slowCallRateThreshold() > 0 ? circuit.slowCallRateThreshold() : 100);
+		breaker.setSlowCallDurationThreshold(circuit.slowCallDuration());
+		breaker.setPermittedCallsInHalfOpenState(circuit.permittedCallsInHalfOpenState());
+		long waitDuration = circuit.resetTimeout();
+		String expression = circuit.resetTimeoutExpression();
+		if (StringUtils.hasText(expression)) {
+			// the sliding window breaker has no supplier, so evaluate runtime expressions
+			// once
+			Long value = isTemplate(expression) ? parse(expression).getValue(this.evaluationContext, Long.class)
+					: evaluate(parse(expression), Long.class, false);
+			if (value != null) {
+				waitDuration = value;
+			}
+		}
+		breaker.setWaitDurationInOpenState(waitDuration);
+		breaker.setFailureClassifier(getFailureClassifier(circuit));
+		return breaker;
+	}
+
+	private BinaryExceptionClassifier getFailureClassifier(Annotation retryable) {
+		Map<String, Object> attrs = AnnotationUtils.getAnnotationAttributes(retryable);
+		@SuppressWarnings("unchecked")
+		Class<? extends Throwable>[] includes = (Class<? extends Throwable>[]) attrs.get("value");
+		if (includes.length == 0) {
+			@SuppressWarnings("unchecked")
+			Class<? extends Throwable>[] value = (Class<? extends Throwable>[]) attrs.get("retryFor");
+			includes = value;
+		}
+		@SuppressWarnings("unchecked")
+		Class<? extends Throwable>[] excludes = (Class<? extends Throwable>[]) attrs.get("noRetryFor");
+		Map<Class<? extends Throwable>, Boolean> failures = new HashMap<>();
+		for (Class<? extends Throwable> type : includes) {
+			failures.put(type, true);
+		}
+		for (Class<? extends Throwable> type : excludes) {
+			failures.put(type, false);
+		}
+		BinaryExceptionClassifier classifier = new BinaryExceptionClassifier(failures, includes.length == 0);
+		classifier.setTraverseCauses(true);
+		return classifier;
+	}
+
 	private RetryTemplate createTemplate(String[] listenersBeanNames) {
 		RetryTemplate template = new RetryTemplate();
 		if (listenersBeanNames.length > 0) {
@@ -334,23 +545,6 @@ public class AnnotationAwareRetryOperationsInterceptor implements IntroductionIn
 		return listeners;
 	}
 
-	private MethodInvocationRecoverer<?> getRecoverer(Object target, Method method) {
-		if (target instanceof MethodInvocationRecoverer) {
-			return (MethodInvocationRecoverer<?>) target;
-		}
-		final AtomicBoolean foundRecoverable = new AtomicBoolean(false);
-		ReflectionUtils.doWithMethods(target.getClass(), candidate -> {
-			if (AnnotatedElementUtils.findMergedAnnotation(candidate, Recover.class) != null) {
-				foundRecoverable.set(true);
-			}
-		});
-
-		if (!foundRecoverable.get()) {
-			return null;
-		}
-		return new RecoverAnnotationRecoveryHandler<>(target, method);
-	}
-
 	private RetryPolicy getRetryPolicy(Annotation retryable, boolean stateless) {
 		Map<String, Object> attrs = AnnotationUtils.getAnnotationAttributes(retryable);
 		@SuppressWarnings("unchecked")
@@ -377,11 +571,10 @@ public class AnnotationAwareRetryOperationsInterceptor implements IntroductionIn
 		final Expression maxAttExpression = parsedExpression;
 		SimpleRetryPolicy simple = null;
 		if (includes.length == 0 && excludes.length == 0) {
-			simple = hasExceptionExpression
-					? new ExpressionRetryPolicy(resolve(exceptionExpression)).withBeanFactory(this.beanFactory)
-					: new SimpleRetryPolicy();
+			simple = hasExceptionExpression ? new ExpressionRetryPolicy(parseExceptionExpression(exceptionExpression))
+				.withBeanFactory(this.beanFactory) : new SimpleRetryPolicy();
 			if (maxAttExpression != null) {
-				simple.maxAttemptsSupplier(() -> evaluate(maxAttExpression, Integer.class, stateless));
+				simple.maxAttemptsSupplier(supplier(maxAttExpression, Integer.class, stateless));
 			}
 			else {
 				simple.setMaxAttempts(maxAttempts);
@@ -397,15 +590,15 @@ public class AnnotationAwareRetryOperationsInterceptor implements IntroductionIn
 		boolean retryNotExcluded = includes.length == 0;
 		if (simple == null) {
 			if (hasExceptionExpression) {
-				simple = new ExpressionRetryPolicy(maxAttempts, policyMap, true, resolve(exceptionExpression),
-						retryNotExcluded)
+				simple = new ExpressionRetryPolicy(maxAttempts, policyMap, true,
+						parseExceptionExpression(exceptionExpression), retryNotExcluded)
 					.withBeanFactory(this.beanFactory);
 			}
 			else {
 				simple = new SimpleRetryPolicy(maxAttempts, policyMap, true, retryNotExcluded);
 			}
 			if (maxAttExpression != null) {
-				simple.maxAttemptsSupplier(() -> evaluate(maxAttExpression, Integer.class, stateless));
+				simple.maxAttemptsSupplier(supplier(maxAttExpression, Integer.class, stateless));
 			}
 		}
 		@SuppressWarnings("unchecked")
@@ -470,25 +663,25 @@ public class AnnotationAwareRetryOperationsInterceptor implements IntroductionIn
 
 		BackOffPolicyBuilder builder = BackOffPolicyBuilder.newBuilder();
 		if (minExp != null) {
-			builder.delaySupplier(() -> evaluate(minExp, Long.class, stateless));
+			builder.delaySupplier(supplier(minExp, Long.class, stateless));
 		}
 		else {
 			builder.delay(min);
 		}
 		if (maxExp != null) {
-			builder.maxDelaySupplier(() -> evaluate(maxExp, Long.class, stateless));
+			builder.maxDelaySupplier(supplier(maxExp, Long.class, stateless));
 		}
 		else {
 			builder.maxDelay(max);
 		}
 		if (multExp != null) {
-			builder.multiplierSupplier(() -> evaluate(multExp, Double.class, stateless));
+			builder.multiplierSupplier(supplier(multExp, Double.class, stateless));
 		}
 		else {
 			builder.multiplier(multiplier);
 		}
 		if (randomExp != null) {
-			builder.randomSupplier(() -> evaluate(randomExp, Boolean.class, stateless));
+			builder.randomSupplier(supplier(randomExp, Boolean.class, stateless));
 		}
 		else {
 			builder.random(isRandom);
@@ -499,18 +692,83 @@ public class AnnotationAwareRetryOperationsInterceptor implements IntroductionIn
 
 	private Expression parse(String expression) {
 		if (isTemplate(expression)) {
-			return PARSER.parseExpression(resolve(expression), PARSER_CONTEXT);
+			return parser().parseExpression(resolve(expression), PARSER_CONTEXT);
 		}
 		else {
-			return PARSER.parseExpression(resolve(expression));
+			return parser().parseExpression(resolve(expression));
 		}
 	}
 
+	private Expression parseExceptionExpression(String expression) {
+		SpelParserConfiguration configuration = this.compileExpressions ? compilerConfiguration()
+				: new SpelParserConfiguration();
+		return ExpressionRetryPolicy.parseExpression(resolve(expression), configuration);
+	}
+
+	private SpelExpressionParser parser() {
+		if (!this.compileExpressions) {
+			return PARSER;
+		}
+		if (this.compilingParser == null) {
+			this.compilingParser = new SpelExpressionParser(compilerConfiguration());
+		}
+		return this.compilingParser;
+	}
+
+	private SpelParserConfiguration compilerConfiguration() {
+		ClassLoader classLoader = this.beanFactory instanceof ConfigurableBeanFactory
+				? ((ConfigurableBeanFactory) this.beanFactory).getBeanClassLoader()
+				: ClassUtils.getDefaultClassLoader();
+		return new SpelParserConfiguration(SpelCompilerMode.MIXED, classLoader);
+	}
+
 	private boolean isTemplate(String expression) {
 		return expression.contains(PARSER_CONTEXT.getExpressionPrefix())
 				&& expression.contains(PARSER_CONTEXT.getExpressionSuffix());
 	}
 
+	/**
+	 * The supplier of the value of a runtime expression. Expressions that do not refer to
+	 * the method arguments are evaluated without looking them up and, if an expression
+	 * cache timeout is set, their value is reused until it expires.
+	 */
+	private <T> Supplier<T> supplier(Expression expression, Class<T> type, boolean stateless) {
+		if (!isArgumentIndependent(expression)) {
+			return () -> evaluate(expression, type, stateless);
+		}
+		Supplier<T> supplier = () -> expression.getValue(this.evaluationContext, type);
+		return this.expressionCacheTimeout > 0 ? new CachedValueSupplier<>(supplier, this.expressionCacheTimeout)
+				: supplier;
+	}
+
+	private static boolean isArgumentIndependent(Expression expression) {
+		return expression instanceof SpelExpression
+				&& isArgumentIndependent(((SpelExpression) expression).getAST(), false);
+	}
+
+	/**
+	 * Whether a node, and its children, can be evaluated without a root object: property
+	 * and method references are only allowed on the result of a previous node of the same
+	 * compound expression (e.g. {@code @bean.delay}).
+	 */
+	private static boolean isArgumentIndependent(SpelNode node, boolean qualified) {
+		if (node instanceof VariableReference || node instanceof FunctionReference || node instanceof Selection
+				|| node instanceof Projection) {
+			return false;
+		}
+		if (!qualified && (node instanceof PropertyOrFieldReference || node instanceof MethodReference
+				|| node instanceof Indexer)) {
+			return false;
+		}
+		boolean compound = node instanceof CompoundExpression;
+		for (int i = 0; i < node.getChildCount(); i++) {
+			if (!isArgumentIndependent(node.getChild(i), compound && i > 0)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	private <T> T evaluate(Expression expression, Class<T> type, boolean stateless) {
 		Args args = null;
 		if (stateless) {
@@ -537,4 +795,87 @@ public class AnnotationAwareRetryOperationsInterceptor implements IntroductionIn
 		return value;
 	}
 
+	/**
+	 * A supplier reusing the value it got from its delegate for a fixed time.
+	 */
+	private static final class CachedValueSupplier<T> implements Supplier<T> {
+
+		private final Supplier<T> delegate;
+
+		private final long timeout;
+
+		private volatile CachedValue<T> value;
+
+		private CachedValueSupplier(Supplier<T> delegate, long timeoutMillis) {
+			this.delegate = delegate;
+			this.timeout = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+		}
+
+		@Override
+		public T get() {
+			long now = System.nanoTime();
+			CachedValue<T> cached = this.value;
+			if (cached == null || now - cached.evaluated >= this.timeout) {
+				cached = new CachedValue<>(this.delegate.get(), now);
+				this.value = cached;
+			}
+			return cached.value;
+		}
+
+	}
+
+	private static final class CachedValue<T> {
+
+		private final T value;
+
+		private final long evaluated;
+
+		private CachedValue(T value, long evaluated) {
+			this.value = value;
+			this.evaluated = evaluated;
+		}
+
+	}
+
+	/**
+	 * What is known about a retryable method of a target class independently of the
+	 * target instance: the annotation, the retry operations built from it (with their
+	 * policies, back off and listeners) and the recovery methods. Only the recoverer is
+	 * bound to each target; when there is none, all the targets share one interceptor.
+	 */
+	private static final class RetryPlan {
+
+		private final Retryable retryable;
+
+		private final Function<MethodInvocationRecoverer<?>, MethodInterceptor> interceptorFactory;
+
+		private final RecoverAnnotationRecoveryHandler<?> recoverer;
+
+		private final boolean targetRecoverer;
+
+		private final MethodInterceptor sharedInterceptor;
+
+		private RetryPlan(Retryable retryable,
+				Function<MethodInvocationRecoverer<?>, MethodInterceptor> interceptorFactory,
+				RecoverAnnotationRecoveryHandler<?> recoverer, boolean targetRecoverer) {
+
+			this.retryable = retryable;
+			this.interceptorFactory = interceptorFactory;
+			this.recoverer = recoverer;
+			this.targetRecoverer = targetRecoverer;
+			this.sharedInterceptor = (interceptorFactory != null && recoverer == null && !targetRecoverer)
+					? interceptorFactory.apply(null) : null;
+		}
+
+		private MethodInterceptor createInterceptor(Object target) {
+			if (this.sharedInterceptor != null) {
+				return this.sharedInterceptor;
+			}
+			MethodInvocationRecoverer<?> recoverer = this.targetRecoverer ? (MethodInvocationRecoverer<?>) target
+					: this.recoverer.forTarget(target);
+			return this.interceptorFactory.apply(recoverer);
+		}
+
+	}
+
 }
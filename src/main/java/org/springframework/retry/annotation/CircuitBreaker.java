@@ -159,6 +159,85 @@ public @interface CircuitBreaker {
 	 */
 	String openTimeoutExpression() default "";
 
+	/**
+	 * The failure rate, in percent, at or above which the circuit opens. Setting this
+	 * attribute or {@link #slowCallRateThreshold()} switches the breaker from counting
+	 * {@link #maxAttempts()} failures within {@link #openTimeout()} to evaluating rates
+	 * over a time based sliding window of {@link #slidingWindowSize()} seconds, in which
+	 * case {@code maxAttempts} and {@code openTimeout} are ignored and an unset threshold
+	 * means 100.
+	 * @return the failure rate threshold, defaults to -1 (not rate based)
+	 * @since 2.0.6
+	 */
+	float failureRateThreshold() default -1;
+
+	/**
+	 * The rate of slow calls, in percent, at or above which the circuit opens. See
+	 * {@link #failureRateThreshold()}.
+	 * @return the slow call rate threshold, defaults to -1 (not rate based)
+	 * @since 2.0.6
+	 */
+	float slowCallRateThreshold() default -1;
+
+	/**
+	 * Calls that take longer than this, whether they succeed or fail, count as slow calls
+	 * towards the {@link #slowCallRateThreshold()}.
+	 * @return the slow call duration in milliseconds, defaults to 60000
+	 * @since 2.0.6
+	 */
+	long slowCallDuration() default 60000;
+
+	/**
+	 * The number of calls that must have completed within the sliding window before the
+	 * rates are evaluated. Only used with a rate threshold.
+	 * @return the minimum number of calls, defaults to 100
+	 * @since 2.0.6
+	 */
+	int minimumNumberOfCalls() default 100;
+
+	/**
+	 * The length of the sliding window over which the rates are evaluated. Only used with
+	 * a rate threshold.
+	 * @return the sliding window size in seconds, defaults to 60
+	 * @since 2.0.6
+	 */
+	int slidingWindowSize() default 60;
+
+	/**
+	 * The number of trial calls permitted once {@link #resetTimeout()} has elapsed; their
+	 * rates decide whether the circuit closes or opens again. Only used with a rate
+	 * threshold.
+	 * @return the number of calls permitted in the half open state, defaults to 10
+	 * @since 2.0.6
+	 */
+	int permittedCallsInHalfOpenState() default 10;
+
+	/**
+	 * An expression evaluated against the method arguments to select the circuit for a
+	 * call, so that each distinct value gets a breaker of its own. The root object of the
+	 * evaluation holds the arguments, for example {@code "args[0].host"}. Defaults to
+	 * empty: a single circuit for the method.
+	 * @return the key expression
+	 * @since 2.0.6
+	 */
+	String key() default "";
+
+	/**
+	 * The maximum number of circuits kept when a {@link #key()} is set; the least
+	 * recently used circuit is dropped to make room for a new key.
+	 * @return the maximum number of circuits, defaults to 1024
+	 * @since 2.0.6
+	 */
+	int maxKeys() default 1024;
+
+	/**
+	 * When a {@link #key()} is set, circuits that have not been used for this long are
+	 * dropped; a key seen again afterwards starts with a closed circuit.
+	 * @return the idle timeout in milliseconds, defaults to 600000
+	 * @since 2.0.6
+	 */
+	long keyIdleTimeout() default 600000;
+
 	/**
 	 * Specify an expression to be evaluated after the
 	 * {@code SimpleRetryPolicy.canRetry()} returns true - can be used to conditionally
@@ -64,4 +64,31 @@ public @interface EnableRetry {
 	 */
 	int order() default Ordered.LOWEST_PRECEDENCE - 1;
 
+	/**
+	 * Indicate whether the retry interceptors of the {@link Retryable} methods of
+	 * singleton beans are built when all singletons have been instantiated, rather than
+	 * on the first call of each method. The default is {@code false}.
+	 * @return whether to build the retry interceptors eagerly
+	 * @since 2.0.6
+	 */
+	boolean eagerInterceptors() default false;
+
+	/**
+	 * Indicate whether the expressions of the {@link Retryable}, {@link Backoff} and
+	 * {@link CircuitBreaker} annotations that are evaluated at runtime are compiled by
+	 * SpEL. The default is {@code false}.
+	 * @return whether to compile the runtime expressions
+	 * @since 2.0.6
+	 */
+	boolean compileExpressions() default false;
+
+	/**
+	 * The time in milliseconds for which the value of a runtime expression that does not
+	 * refer to the method arguments is reused before being evaluated again. The default
+	 * is 0: such expressions are evaluated on each use.
+	 * @return the expression cache timeout in milliseconds
+	 * @since 2.0.6
+	 */
+	long expressionCacheTimeout() default 0;
+
 }
@@ -16,9 +16,15 @@
 
 package org.springframework.retry.annotation;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -29,6 +35,7 @@ import org.springframework.retry.RetryContext;
 import org.springframework.retry.interceptor.MethodInvocationRecoverer;
 import org.springframework.retry.support.RetrySynchronizationManager;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
@@ -42,6 +49,10 @@ import org.springframework.util.StringUtils;
  * class hierarchy is chosen, so for instance if an IllegalArgumentException is being
  * handled and there is a method whose first argument is RuntimeException, then it will be
  * preferred over a method whose first argument is Throwable.
+ * <p>
+ * The recovery method chosen is remembered per exception type and shape of the arguments
+ * (their count and runtime types), and invoked through a method handle bound once, so
+ * that repeated recoveries do not repeat the search.
  *
  * @param <T> the type of the return value from the recovery
  * @author Dave Syer
@@ -58,53 +69,81 @@ import org.springframework.util.StringUtils;
  */
 public class RecoverAnnotationRecoveryHandler<T> implements MethodInvocationRecoverer<T> {
 
-	private final SubclassClassifier<Throwable, Method> classifier = new SubclassClassifier<>();
+	private static final int MAX_SHAPES = 16;
 
-	private final Map<Method, SimpleMetadata> methods = new HashMap<>();
+	private final SubclassClassifier<Throwable, Method> classifier;
+
+	private final Map<Method, SimpleMetadata> methods;
+
+	private final Map<Method, RecoveryMethod> recoveryMethods;
+
+	private final Map<Class<?>, Dispatch> dispatch;
 
 	private final Object target;
 
 	private String recoverMethodName;
 
 	public RecoverAnnotationRecoveryHandler(Object target, Method method) {
+		this(target, target.getClass(), method);
+	}
+
+	/**
+	 * Resolve the recovery methods of a target class, for handlers bound to instances of
+	 * that class with {@link #forTarget(Object)}.
+	 */
+	RecoverAnnotationRecoveryHandler(Class<?> targetClass, Method method) {
+		this(null, targetClass, method);
+	}
+
+	private RecoverAnnotationRecoveryHandler(Object target, Class<?> targetClass, Method method) {
+		this.classifier = new SubclassClassifier<>();
+		this.methods = new HashMap<>();
+		this.recoveryMethods = new HashMap<>();
+		this.dispatch = new ConcurrentReferenceHashMap<>();
+		this.target = target;
+		init(targetClass, method);
+	}
+
+	private RecoverAnnotationRecoveryHandler(RecoverAnnotationRecoveryHandler<T> handler, Object target) {
+		this.classifier = handler.classifier;
+		this.methods = handler.methods;
+		this.recoveryMethods = handler.recoveryMethods;
+		this.dispatch = handler.dispatch;
+		this.recoverMethodName = handler.recoverMethodName;
 		this.target = target;
-		init(target, method);
+	}
+
+	/**
+	 * Return a handler that recovers with the methods of this one, on the given target.
+	 * The recovery methods and the resolution cache are shared, not copied.
+	 * @param target an instance of the class the recovery methods were resolved for
+	 * @return a handler bound to the target
+	 */
+	RecoverAnnotationRecoveryHandler<T> forTarget(Object target) {
+		return new RecoverAnnotationRecoveryHandler<>(this, target);
 	}
 
 	@Override
 	public T recover(Object[] args, Throwable cause) {
-		Method method = findClosestMatch(args, cause.getClass());
-		if (method == null) {
+		RecoveryMethod recoveryMethod = this.dispatch.computeIfAbsent(cause.getClass(), type -> new Dispatch())
+			.resolve(args, cause.getClass());
+		if (recoveryMethod == null) {
 			throw new ExhaustedRetryException("Cannot locate recovery method", cause);
 		}
-		SimpleMetadata meta = this.methods.get(method);
-		Object[] argsToUse = meta.getArgs(cause, args);
-		ReflectionUtils.makeAccessible(method);
+		Object[] argsToUse = recoveryMethod.meta.getArgs(cause, args);
 		RetryContext context = RetrySynchronizationManager.getContext();
 		Object proxy = null;
 		if (context != null) {
 			proxy = context.getAttribute("___proxy___");
-			if (proxy != null) {
-				Method proxyMethod = findMethodOnProxy(method, proxy);
-				if (proxyMethod == null) {
-					proxy = null;
-				}
-				else {
-					method = proxyMethod;
-				}
-			}
-		}
-		if (proxy == null) {
-			proxy = this.target;
 		}
 		@SuppressWarnings("unchecked")
-		T result = (T) ReflectionUtils.invokeMethod(method, proxy, argsToUse);
+		T result = (T) recoveryMethod.invoke(proxy, this.target, argsToUse);
 		return result;
 	}
 
-	private Method findMethodOnProxy(Method method, Object proxy) {
+	private static Method findMethodOnProxy(Method method, Class<?> proxyClass) {
 		try {
-			return proxy.getClass().getMethod(method.getName(), method.getParameterTypes());
+			return proxyClass.getMethod(method.getName(), method.getParameterTypes());
 		}
 		catch (NoSuchMethodException | SecurityException e) {
 			return null;
@@ -188,17 +227,17 @@ public class RecoverAnnotationRecoveryHandler<T> implements MethodInvocationReco
 		return false;
 	}
 
-	private void init(final Object target, Method method) {
+	private void init(final Class<?> targetClass, Method method) {
 		final Map<Class<? extends Throwable>, Method> types = new HashMap<>();
 		final Method failingMethod = method;
 		Retryable retryable = AnnotatedElementUtils.findMergedAnnotation(method, Retryable.class);
 		if (retryable != null) {
 			this.recoverMethodName = retryable.recover();
 		}
-		ReflectionUtils.doWithMethods(target.getClass(), candidate -> {
+		ReflectionUtils.doWithMethods(targetClass, candidate -> {
 			Recover recover = AnnotatedElementUtils.findMergedAnnotation(candidate, Recover.class);
 			if (recover == null) {
-				recover = findAnnotationOnTarget(target, candidate);
+				recover = findAnnotationOnTarget(targetClass, candidate);
 			}
 			if (recover != null && failingMethod.getGenericReturnType() instanceof ParameterizedType
 					&& candidate.getGenericReturnType() instanceof ParameterizedType) {
@@ -213,6 +252,9 @@ public class RecoverAnnotationRecoveryHandler<T> implements MethodInvocationReco
 		});
 		this.classifier.setTypeMap(types);
 		optionallyFilterMethodsBy(failingMethod.getReturnType());
+		for (Map.Entry<Method, SimpleMetadata> entry : this.methods.entrySet()) {
+			this.recoveryMethods.put(entry.getKey(), new RecoveryMethod(entry.getKey(), entry.getValue()));
+		}
 	}
 
 	/**
@@ -269,9 +311,9 @@ public class RecoverAnnotationRecoveryHandler<T> implements MethodInvocationReco
 		}
 	}
 
-	private Recover findAnnotationOnTarget(Object target, Method method) {
+	private Recover findAnnotationOnTarget(Class<?> targetClass, Method method) {
 		try {
-			Method targetMethod = target.getClass().getMethod(method.getName(), method.getParameterTypes());
+			Method targetMethod = targetClass.getMethod(method.getName(), method.getParameterTypes());
 			return AnnotatedElementUtils.findMergedAnnotation(targetMethod, Recover.class);
 		}
 		catch (Exception e) {
@@ -293,6 +335,152 @@ public class RecoverAnnotationRecoveryHandler<T> implements MethodInvocationReco
 		}
 	}
 
+	/**
+	 * The recovery methods resolved for one exception type, per argument shape: the
+	 * arguments' count and their runtime types.
+	 */
+	private final class Dispatch {
+
+		private volatile Shape[] shapes = new Shape[0];
+
+		private RecoveryMethod resolve(Object[] args, Class<? extends Throwable> cause) {
+			Shape[] shapes = this.shapes;
+			for (Shape shape : shapes) {
+				if (shape.matches(args)) {
+					return shape.recoveryMethod;
+				}
+			}
+			Method method = findClosestMatch(args, cause);
+			RecoveryMethod recoveryMethod = (method != null)
+					? RecoverAnnotationRecoveryHandler.this.recoveryMethods.get(method) : null;
+			if (shapes.length < MAX_SHAPES) {
+				Shape[] grown = Arrays.copyOf(shapes, shapes.length + 1);
+				grown[shapes.length] = new Shape(args, recoveryMethod);
+				this.shapes = grown;
+			}
+			return recoveryMethod;
+		}
+
+	}
+
+	private static final class Shape {
+
+		private final Class<?>[] types;
+
+		private final RecoveryMethod recoveryMethod;
+
+		private Shape(Object[] args, RecoveryMethod recoveryMethod) {
+			this.types = new Class<?>[args.length];
+			for (int i = 0; i < args.length; i++) {
+				this.types[i] = (args[i] != null) ? args[i].getClass() : null;
+			}
+			this.recoveryMethod = recoveryMethod;
+		}
+
+		private boolean matches(Object[] args) {
+			if (args.length != this.types.length) {
+				return false;
+			}
+			for (int i = 0; i < args.length; i++) {
+				Object arg = args[i];
+				if ((arg != null ? arg.getClass() : null) != this.types[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+	}
+
+	/**
+	 * A recovery method with its handle bound once, and the matching method on the last
+	 * proxy class seen, so that neither is looked up again for each recovery.
+	 */
+	private static final class RecoveryMethod {
+
+		private final Method method;
+
+		private final SimpleMetadata meta;
+
+		private final MethodHandle handle;
+
+		private volatile ProxyMethod proxyMethod;
+
+		private RecoveryMethod(Method method, SimpleMetadata meta) {
+			ReflectionUtils.makeAccessible(method);
+			this.method = method;
+			this.meta = meta;
+			this.handle = spreader(method);
+		}
+
+		private Object invoke(Object proxy, Object target, Object[] args) {
+			if (proxy != null) {
+				ProxyMethod proxyMethod = this.proxyMethod;
+				if (proxyMethod == null || proxyMethod.proxyClass != proxy.getClass()) {
+					Method method = findMethodOnProxy(this.method, proxy.getClass());
+					proxyMethod = new ProxyMethod(proxy.getClass(), method, (method != null) ? spreader(method) : null);
+					this.proxyMethod = proxyMethod;
+				}
+				if (proxyMethod.method != null) {
+					return invoke(proxyMethod.method, proxyMethod.handle, proxy, args);
+				}
+			}
+			return invoke(this.method, this.handle, target, args);
+		}
+
+		private static Object invoke(Method method, MethodHandle handle, Object target, Object[] args) {
+			if (handle == null) {
+				return ReflectionUtils.invokeMethod(method, target, args);
+			}
+			try {
+				return (Object) handle.invokeExact(target, args);
+			}
+			catch (RuntimeException | Error ex) {
+				throw ex;
+			}
+			catch (Throwable ex) {
+				throw new UndeclaredThrowableException(ex);
+			}
+		}
+
+		/**
+		 * Adapt the method to {@code (Object, Object[])Object}, or return null if it
+		 * cannot be accessed through a method handle, to fall back to reflection.
+		 */
+		private static MethodHandle spreader(Method method) {
+			MethodHandle handle;
+			try {
+				handle = MethodHandles.lookup().unreflect(method);
+			}
+			catch (IllegalAccessException ex) {
+				return null;
+			}
+			int parameterCount = method.getParameterCount();
+			if (Modifier.isStatic(method.getModifiers())) {
+				handle = MethodHandles.dropArguments(handle, 0, Object.class);
+			}
+			return handle.asType(MethodType.genericMethodType(parameterCount + 1))
+				.asSpreader(Object[].class, parameterCount);
+		}
+
+	}
+
+	private static final class ProxyMethod {
+
+		private final Class<?> proxyClass;
+
+		private final Method method;
+
+		private final MethodHandle handle;
+
+		private ProxyMethod(Class<?> proxyClass, Method method, MethodHandle handle) {
+			this.proxyClass = proxyClass;
+			this.method = method;
+			this.handle = handle;
+		}
+
+	}
+
 	private static class SimpleMetadata {
 
 		private final int argCount;
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.annotation;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.aot.hint.ExecutableMode;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
+import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.annotation.MergedAnnotations.SearchStrategy;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link BeanRegistrationAotProcessor} that registers, at build time, the reflection
+ * hints needed to retry and recover the methods of beans annotated with
+ * {@link Retryable}, {@link CircuitBreaker} or {@link Recover}: the annotated methods are
+ * invoked reflectively, and the declared methods of the bean class hierarchy are
+ * introspected to find the annotations and the recovery methods.
+ *
+ * @since 2.0.6
+ */
+class RetryBeanRegistrationAotProcessor implements BeanRegistrationAotProcessor {
+
+	@Override
+	public BeanRegistrationAotContribution processAheadOfTime(RegisteredBean registeredBean) {
+		Class<?> beanClass = registeredBean.getBeanClass();
+		Set<Method> methods = findRetryMethods(beanClass);
+		if (methods.isEmpty()) {
+			return null;
+		}
+		return (generationContext, beanRegistrationCode) -> registerHints(
+				generationContext.getRuntimeHints().reflection(), beanClass, methods);
+	}
+
+	private static Set<Method> findRetryMethods(Class<?> beanClass) {
+		boolean retryableClass = MergedAnnotations.from(beanClass, SearchStrategy.TYPE_HIERARCHY)
+			.isPresent(Retryable.class);
+		Set<Method> methods = new LinkedHashSet<>();
+		for (Method method : ReflectionUtils.getUniqueDeclaredMethods(beanClass,
+				ReflectionUtils.USER_DECLARED_METHODS)) {
+			MergedAnnotations annotations = MergedAnnotations.from(method, SearchStrategy.TYPE_HIERARCHY);
+			if (annotations.isPresent(Retryable.class) || annotations.isPresent(Recover.class)
+					|| (retryableClass && Modifier.isPublic(method.getModifiers()))) {
+				methods.add(method);
+			}
+		}
+		return methods;
+	}
+
+	private static void registerHints(ReflectionHints hints, Class<?> beanClass, Set<Method> methods) {
+		for (Class<?> type = beanClass; type != null && type != Object.class; type = type.getSuperclass()) {
+			hints.registerType(type, MemberCategory.INTROSPECT_DECLARED_METHODS,
+					MemberCategory.INTROSPECT_PUBLIC_METHODS);
+		}
+		for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(beanClass)) {
+			hints.registerType(type, MemberCategory.INTROSPECT_PUBLIC_METHODS);
+		}
+		for (Method method : methods) {
+			hints.registerMethod(method, ExecutableMode.INVOKE);
+		}
+	}
+
+}
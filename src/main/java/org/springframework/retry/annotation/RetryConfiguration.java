@@ -30,6 +30,7 @@ import org.springframework.aop.ClassFilter;
 import org.springframework.aop.IntroductionAdvisor;
 import org.springframework.aop.MethodMatcher;
 import org.springframework.aop.Pointcut;
+import org.springframework.aop.framework.Advised;
 import org.springframework.aop.support.AbstractPointcutAdvisor;
 import org.springframework.aop.support.ComposablePointcut;
 import org.springframework.aop.support.StaticMethodMatcherPointcut;
@@ -41,7 +42,9 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.context.annotation.ImportAware;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.context.annotation.Role;
 import org.springframework.core.OrderComparator;
 import org.springframework.core.annotation.AnnotationAttributes;
@@ -74,6 +77,7 @@ import org.springframework.util.ReflectionUtils;
 @SuppressWarnings("serial")
 @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
 @Component
+@ImportRuntimeHints(RetryRuntimeHints.class)
 public class RetryConfiguration extends AbstractPointcutAdvisor
 		implements IntroductionAdvisor, BeanFactoryAware, InitializingBean, SmartInitializingSingleton, ImportAware {
 
@@ -124,6 +128,25 @@ public class RetryConfiguration extends AbstractPointcutAdvisor
 		if (this.retryListeners != null) {
 			this.advice.setListeners(this.retryListeners);
 		}
+		if (this.enableRetry != null && this.enableRetry.getBoolean("eagerInterceptors")) {
+			initializeInterceptors();
+		}
+	}
+
+	/**
+	 * Build the retry interceptors of the singletons advised by this advisor, so that the
+	 * first calls do not pay for parsing the annotations and creating the templates.
+	 */
+	private void initializeInterceptors() {
+		if (this.beanFactory instanceof ConfigurableListableBeanFactory) {
+			ConfigurableListableBeanFactory listable = (ConfigurableListableBeanFactory) this.beanFactory;
+			for (String name : listable.getSingletonNames()) {
+				Object bean = listable.getSingleton(name);
+				if (bean instanceof Advised && ((Advised) bean).indexOf(this) >= 0) {
+					this.advice.initializeDelegates((Advised) bean);
+				}
+			}
+		}
 	}
 
 	private <T> List<T> findBeans(Class<? extends T> type) {
@@ -194,6 +217,10 @@ public class RetryConfiguration extends AbstractPointcutAdvisor
 		if (this.sleeper != null) {
 			interceptor.setSleeper(this.sleeper);
 		}
+		if (this.enableRetry != null) {
+			interceptor.setCompileExpressions(this.enableRetry.getBoolean("compileExpressions"));
+			interceptor.setExpressionCacheTimeout(this.enableRetry.getNumber("expressionCacheTimeout").longValue());
+		}
 		return interceptor;
 	}
 
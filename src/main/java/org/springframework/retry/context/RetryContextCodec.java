@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.context;
+
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryPolicy;
+
+/**
+ * Strategy for turning a {@link RetryContext} into bytes and back, for
+ * {@link org.springframework.retry.policy.RetryContextCache} implementations that keep
+ * contexts outside of the heap: in a file, or in a remote store.
+ * <p>
+ * A context is decoded by letting the {@link RetryPolicy} that will use it
+ * {@link RetryPolicy#open(RetryContext) open} a fresh one and bringing that up to the
+ * recorded state, so that policies get a context of the type they expect. The recorded
+ * failures are restored on the context, not registered with the policy again.
+ *
+ * @since 2.0.6
+ * @see BinaryRetryContextCodec
+ */
+public interface RetryContextCodec {
+
+	/**
+	 * Capture the state of a context.
+	 * @param context the context to encode
+	 * @return the encoded state
+	 */
+	byte[] encode(RetryContext context);
+
+	/**
+	 * Rebuild a context from its encoded state.
+	 * @param data the encoded state, as returned by {@link #encode(RetryContext)}
+	 * @param retryPolicy the policy that opens the context
+	 * @return the restored context
+	 * @throws IllegalArgumentException if the data cannot be decoded
+	 */
+	RetryContext decode(byte[] data, RetryPolicy retryPolicy);
+
+}
@@ -77,6 +77,17 @@ public class RetryContextSupport extends AttributeAccessorSupport implements Ret
 			count++;
 	}
 
+	/**
+	 * Restore the retry count and last exception of a context rebuilt from a snapshot,
+	 * without registering the failures with the policy again.
+	 * @param count the retry count
+	 * @param lastException the last exception
+	 */
+	void restore(int count, Throwable lastException) {
+		this.count = count;
+		this.lastException = lastException;
+	}
+
 	@Override
 	public String toString() {
 		return String.format("[RetryContext: count=%d, lastException=%s, exhausted=%b]", count, lastException,
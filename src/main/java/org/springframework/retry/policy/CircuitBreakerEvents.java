@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.policy;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Entry point of the circuit breakers to their flight recorder events, so that they do
+ * not link against {@code jdk.jfr}, which is optional: when the module is missing or the
+ * JVM does not support the flight recorder, no event is ever created.
+ *
+ * @since 2.0.6
+ */
+final class CircuitBreakerEvents {
+
+	/**
+	 * Whether the flight recorder is available in this JVM, checked once.
+	 */
+	static final boolean AVAILABLE = isAvailable();
+
+	private CircuitBreakerEvents() {
+	}
+
+	/**
+	 * Emit a {@link CircuitBreakerTransitionEvent} if the flight recorder is available
+	 * and a recording has enabled it.
+	 * @param name the name of the retry context
+	 * @param key the state key of the circuit, or null
+	 * @param from the state left
+	 * @param to the state entered
+	 * @param failureRate the failure rate that caused the transition, or -1
+	 */
+	static void transition(Object name, Object key, String from, String to, float failureRate) {
+		if (AVAILABLE) {
+			CircuitBreakerTransitionEvent.emit(name, key, from, to, failureRate);
+		}
+	}
+
+	private static boolean isAvailable() {
+		try {
+			return FlightRecorder.isAvailable();
+		}
+		catch (LinkageError ex) {
+			// no jdk.jfr module in this runtime
+			return false;
+		}
+	}
+
+}
@@ -189,7 +189,7 @@ public class CircuitBreakerRetryPolicy implements RetryPolicy {
 				else if (time < this.openWindow) {
 					if (!hasAttribute(CIRCUIT_OPEN) || (Boolean) getAttribute(CIRCUIT_OPEN) == false) {
 						logger.trace("Opening circuit");
-						setAttribute(CIRCUIT_OPEN, true);
+						setOpen(true);
 						this.start = System.currentTimeMillis();
 					}
 
@@ -206,10 +206,19 @@ public class CircuitBreakerRetryPolicy implements RetryPolicy {
 			if (logger.isTraceEnabled()) {
 				logger.trace("Open: " + !retryable);
 			}
-			setAttribute(CIRCUIT_OPEN, !retryable);
+			setOpen(!retryable);
 			return !retryable;
 		}
 
+		private void setOpen(boolean open) {
+			boolean wasOpen = Boolean.TRUE.equals(getAttribute(CIRCUIT_OPEN));
+			setAttribute(CIRCUIT_OPEN, open);
+			if (open != wasOpen) {
+				CircuitBreakerEvents.transition(getAttribute(RetryContext.NAME), getAttribute(RetryContext.STATE_KEY),
+						wasOpen ? "OPEN" : "CLOSED", open ? "OPEN" : "CLOSED", -1);
+			}
+		}
+
 		@Override
 		public int getRetryCount() {
 			return this.context.getRetryCount();
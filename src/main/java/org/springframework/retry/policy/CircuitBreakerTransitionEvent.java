@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.policy;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event emitted when a circuit breaker changes state. It is only
+ * populated and committed when a recording has enabled it, and only created through
+ * {@link CircuitBreakerEvents} when the flight recorder is available.
+ *
+ * @since 2.0.6
+ */
+@Name("org.springframework.retry.CircuitBreakerTransition")
+@Label("Circuit Breaker Transition")
+@Description("A circuit breaker opening, becoming half open or closing")
+@Category("Spring Retry")
+final class CircuitBreakerTransitionEvent extends jdk.jfr.Event {
+
+	@Label("Name")
+	String name;
+
+	@Label("Key")
+	@Description("The state key of the circuit, for breakers with a circuit per key")
+	String key;
+
+	@Label("From")
+	String from;
+
+	@Label("To")
+	String to;
+
+	@Label("Failure Rate")
+	@Description("The failure rate in percent that caused the transition, -1 if not applicable")
+	float failureRate;
+
+	static void emit(Object name, Object key, String from, String to, float failureRate) {
+		CircuitBreakerTransitionEvent event = new CircuitBreakerTransitionEvent();
+		if (event.shouldCommit()) {
+			event.name = name != null ? name.toString() : null;
+			event.key = key != null ? key.toString() : null;
+			event.from = from;
+			event.to = to;
+			event.failureRate = failureRate;
+			event.commit();
+		}
+	}
+
+}
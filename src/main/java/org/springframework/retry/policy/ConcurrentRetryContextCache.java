@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.policy;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.support.BoundedConcurrentMap;
+
+/**
+ * {@link RetryContextCache} backed by a {@link BoundedConcurrentMap}, so that concurrent
+ * stateful retries do not contend on a single monitor the way they do with
+ * {@link MapRetryContextCache}. Lookups are lock-free and updates only lock a bin of the
+ * map.
+ * <p>
+ * Instead of refusing new keys when full, the cache evicts the least recently used
+ * contexts: once the {@link #setMaxSize(int) maximum size} is exceeded, the thread that
+ * notices trims the cache to 90% of the maximum in a single pass, while other threads
+ * carry on. Contexts that have not been used for longer than the
+ * {@link #setExpireAfterAccess(long) expiry} are dropped as well. Evicted contexts are
+ * reported to the {@link #setEvictionCallback(BiConsumer) eviction callback}, and the
+ * hit, miss and eviction counts are exposed for monitoring.
+ * <p>
+ * A context that has been read back for another attempt, and not been put or removed
+ * since, belongs to a retry in flight: trimming spares it as long as other contexts can
+ * go instead, because {@code RetryTemplate} refuses to register the outcome of an attempt
+ * whose context has disappeared from the cache. Expiry does not spare it, so the expiry
+ * should be longer than the longest attempt.
+ * <p>
+ * Null keys are not cached, as allowed by {@link RetryContextCache}.
+ *
+ * @since 2.0.6
+ * @see MapRetryContextCache
+ */
+public class ConcurrentRetryContextCache implements RetryContextCache {
+
+	/**
+	 * Default value for the maximum number of contexts held by the cache.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 4096;
+
+	private final BoundedConcurrentMap<Object, Cached> map = new BoundedConcurrentMap<>(DEFAULT_MAX_SIZE);
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private BiConsumer<Object, RetryContext> evictionCallback;
+
+	/**
+	 * Create a {@link ConcurrentRetryContextCache} with the default maximum size and no
+	 * expiry.
+	 */
+	public ConcurrentRetryContextCache() {
+		this.map.setEvictionCallback((key, cached) -> {
+			if (this.evictionCallback != null) {
+				this.evictionCallback.accept(key, cached.context);
+			}
+		});
+		this.map.setEvictLast(cached -> cached.inFlight && cached.context.getRetryCount() > 0);
+	}
+
+	/**
+	 * @param maxSize the maximum number of contexts held by the cache
+	 * @param expireAfterAccess the time in milliseconds after which a context that has
+	 * not been used is evicted, or 0 for no expiry
+	 */
+	public ConcurrentRetryContextCache(int maxSize, long expireAfterAccess) {
+		this();
+		setMaxSize(maxSize);
+		setExpireAfterAccess(expireAfterAccess);
+	}
+
+	/**
+	 * The maximum number of contexts held by the cache. Default 4096.
+	 * @param maxSize the maximum size
+	 */
+	public void setMaxSize(int maxSize) {
+		this.map.setMaxSize(maxSize);
+	}
+
+	/**
+	 * The time in milliseconds after which a context that has been neither read nor
+	 * written is evicted. Default 0, for no expiry.
+	 * @param expireAfterAccess the expiry in milliseconds
+	 */
+	public void setExpireAfterAccess(long expireAfterAccess) {
+		this.map.setExpireAfterAccess(expireAfterAccess);
+	}
+
+	/**
+	 * A callback invoked with the key and context of every evicted context, whether it
+	 * was the least recently used or had expired. Not invoked for contexts that are
+	 * {@link #remove(Object) removed}.
+	 * @param evictionCallback the callback
+	 */
+	public void setEvictionCallback(BiConsumer<Object, RetryContext> evictionCallback) {
+		this.evictionCallback = evictionCallback;
+	}
+
+	@Override
+	public RetryContext get(Object key) {
+		Cached cached = (key != null) ? this.map.get(key) : null;
+		if (cached == null) {
+			this.misses.increment();
+			return null;
+		}
+		cached.inFlight = true;
+		this.hits.increment();
+		return cached.context;
+	}
+
+	@Override
+	public void put(Object key, RetryContext context) {
+		if (key != null) {
+			this.map.put(key, new Cached(context));
+		}
+	}
+
+	@Override
+	public void remove(Object key) {
+		if (key != null) {
+			this.map.remove(key);
+		}
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		if (key == null || this.map.peek(key) == null) {
+			this.misses.increment();
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * The number of contexts currently held, including any that have expired but have not
+	 * been evicted yet.
+	 * @return the number of contexts
+	 */
+	public int size() {
+		return this.map.size();
+	}
+
+	/**
+	 * The number of lookups that found a context.
+	 * @return the hit count
+	 */
+	public long getHitCount() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * The number of lookups that found no context.
+	 * @return the miss count
+	 */
+	public long getMissCount() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * The number of contexts evicted because the cache was full or they had expired.
+	 * @return the eviction count
+	 */
+	public long getEvictionCount() {
+		return this.map.getEvictionCount();
+	}
+
+	private static final class Cached {
+
+		private final RetryContext context;
+
+		private volatile boolean inFlight;
+
+		Cached(RetryContext context) {
+			this.context = context;
+		}
+
+	}
+
+}
@@ -26,6 +26,7 @@ import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.expression.Expression;
 import org.springframework.expression.common.TemplateParserContext;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.retry.RetryContext;
@@ -98,6 +99,22 @@ public class ExpressionRetryPolicy extends SimpleRetryPolicy implements BeanFact
 		this.expression = getExpression(expressionString);
 	}
 
+	/**
+	 * Construct an instance with the provided {@link Expression}.
+	 * @param maxAttempts the max attempts
+	 * @param retryableExceptions the exceptions
+	 * @param traverseCauses true to examine causes
+	 * @param expression the expression
+	 * @param defaultValue the default action
+	 * @since 2.0.6
+	 */
+	public ExpressionRetryPolicy(int maxAttempts, Map<Class<? extends Throwable>, Boolean> retryableExceptions,
+			boolean traverseCauses, Expression expression, boolean defaultValue) {
+		super(maxAttempts, retryableExceptions, traverseCauses, defaultValue);
+		Assert.notNull(expression, "'expression' cannot be null");
+		this.expression = expression;
+	}
+
 	@Override
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
 		this.evaluationContext.setBeanResolver(new BeanFactoryResolver(beanFactory));
@@ -127,12 +144,25 @@ public class ExpressionRetryPolicy extends SimpleRetryPolicy implements BeanFact
 	 * @return literal expression or template expression
 	 */
 	private static Expression getExpression(String expression) {
+		return parseExpression(expression, new SpelParserConfiguration());
+	}
+
+	/**
+	 * Parse an expression string as the constructors taking one do, with the provided
+	 * parser configuration, for instance to have the expression compiled.
+	 * @param expression the expression string
+	 * @param configuration the SpEL parser configuration
+	 * @return literal expression or template expression
+	 * @since 2.0.6
+	 */
+	public static Expression parseExpression(String expression, SpelParserConfiguration configuration) {
+		SpelExpressionParser parser = new SpelExpressionParser(configuration);
 		if (isTemplate(expression)) {
 			logger.warn("#{...} syntax is not required for this run-time expression "
 					+ "and is deprecated in favor of a simple expression string");
-			return new SpelExpressionParser().parseExpression(expression, PARSER_CONTEXT);
+			return parser.parseExpression(expression, PARSER_CONTEXT);
 		}
-		return new SpelExpressionParser().parseExpression(expression);
+		return parser.parseExpression(expression);
 	}
 
 	/**
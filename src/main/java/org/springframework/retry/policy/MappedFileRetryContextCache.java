@@ -0,0 +1,480 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.policy;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryPolicy;
+import org.springframework.retry.context.BinaryRetryContextCodec;
+import org.springframework.retry.context.RetryContextCodec;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RetryContextCache} that keeps a snapshot of every cached context in a
+ * memory-mapped file, so that stateful retry picks up where it left off after a restart
+ * instead of granting a failing item its full retry budget again.
+ * <p>
+ * Each {@link #put(Object, RetryContext) put} and {@link #remove(Object) remove} appends
+ * a small checksummed record to the file: the time of the update and the state of the
+ * context encoded by a {@link RetryContextCodec}, by default a
+ * {@link BinaryRetryContextCodec} holding the retry count, the exhausted flag and a
+ * summary of the last exception. No Java serialization is involved. On startup the log is
+ * scanned once, sequentially, and only the latest snapshot of each key is kept; a record
+ * torn by a crash ends the scan. Contexts are rebuilt lazily on first access by the
+ * codec, with the policy given to this cache, so the policy sees a context of its own
+ * type in the state it would have reached.
+ * <p>
+ * Once superseded records make up more than half of the log, it is compacted by writing
+ * the live snapshots to a new file that atomically replaces the old one. Writes reach the
+ * operating system when they are made, which survives a restart of the process; enable
+ * {@link #setForceOnWrite(boolean) forceOnWrite} to also survive a crash of the machine.
+ * <p>
+ * Java offers no way to unmap a file explicitly: a mapping is only released when its
+ * buffer is garbage collected. Until then the file stays mapped after the log has grown,
+ * been compacted or been {@link #close() closed}. The replacement made by compaction
+ * relies on the operating system allowing a mapped file to be replaced, as POSIX systems
+ * do. On Windows the replacement fails: the failure is logged and the cache keeps
+ * appending to the old file, which then grows with every update, while an explicit
+ * {@link #compact()} throws an {@link UncheckedIOException}.
+ * <p>
+ * Keys are stored as strings, by default their {@link String#valueOf(Object) string
+ * value}, so they must have a stable string representation.
+ *
+ * @since 2.0.6
+ */
+public class MappedFileRetryContextCache implements RetryContextCache, Closeable {
+
+	/**
+	 * Default value for maximum capacity of the cache.
+	 */
+	public static final int DEFAULT_CAPACITY = 4096;
+
+	private static final Log logger = LogFactory.getLog(MappedFileRetryContextCache.class);
+
+	private static final int MAGIC = 0x53524331;
+
+	private static final int VERSION = 1;
+
+	private static final int HEADER_SIZE = 8;
+
+	private static final int MIN_FILE_SIZE = 64 * 1024;
+
+	private static final byte PUT = 1;
+
+	private static final byte REMOVE = 2;
+
+	private final Path file;
+
+	private final RetryPolicy retryPolicy;
+
+	private final Map<String, RetryContext> contexts = new ConcurrentHashMap<>();
+
+	private final Map<String, byte[]> snapshots = new ConcurrentHashMap<>();
+
+	private final Object monitor = new Object();
+
+	private FileChannel channel;
+
+	private MappedByteBuffer buffer;
+
+	private long garbage;
+
+	private int capacity = DEFAULT_CAPACITY;
+
+	private Function<Object, String> keyMapper = String::valueOf;
+
+	private long expireAfter;
+
+	private boolean forceOnWrite;
+
+	private RetryContextCodec codec = new BinaryRetryContextCodec();
+
+	/**
+	 * Open the cache, creating the file if it does not exist and recovering the snapshots
+	 * it holds otherwise.
+	 * @param file the file backing the cache
+	 * @param retryPolicy the policy used to rebuild recovered contexts; the one used by
+	 * the {@link org.springframework.retry.support.RetryTemplate} the cache is given to
+	 */
+	public MappedFileRetryContextCache(Path file, RetryPolicy retryPolicy) {
+		Assert.notNull(file, "'file' cannot be null");
+		Assert.notNull(retryPolicy, "'retryPolicy' cannot be null");
+		this.file = file;
+		this.retryPolicy = retryPolicy;
+		try {
+			open();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Cannot open retry context log " + file, ex);
+		}
+	}
+
+	/**
+	 * Public setter for the capacity. Prevents the cache from growing unboundedly if
+	 * items that fail are misidentified. Default 4096.
+	 * @param capacity the capacity to set
+	 * @see MapRetryContextCache#setCapacity(int)
+	 */
+	public void setCapacity(int capacity) {
+		this.capacity = capacity;
+	}
+
+	/**
+	 * The function turning cache keys into the strings stored in the file. Default
+	 * {@link String#valueOf(Object)}.
+	 * @param keyMapper the key mapper
+	 */
+	public void setKeyMapper(Function<Object, String> keyMapper) {
+		Assert.notNull(keyMapper, "'keyMapper' cannot be null");
+		this.keyMapper = keyMapper;
+	}
+
+	/**
+	 * Forget snapshots that have not been updated for this long when recovering them, so
+	 * that an item that comes back much later starts afresh. Default 0, for never.
+	 * @param expireAfter the expiry in milliseconds
+	 */
+	public void setExpireAfter(long expireAfter) {
+		this.expireAfter = expireAfter;
+	}
+
+	/**
+	 * Force every write to the storage device. Default false: writes are handed to the
+	 * operating system, which is enough to survive a restart of the process but not a
+	 * crash of the machine.
+	 * @param forceOnWrite true to force writes
+	 */
+	public void setForceOnWrite(boolean forceOnWrite) {
+		this.forceOnWrite = forceOnWrite;
+	}
+
+	/**
+	 * The codec for the state of the contexts. Default {@link BinaryRetryContextCodec}.
+	 * Changing codec makes existing files unreadable.
+	 * @param codec the codec
+	 */
+	public void setCodec(RetryContextCodec codec) {
+		Assert.notNull(codec, "'codec' cannot be null");
+		this.codec = codec;
+	}
+
+	@Override
+	public RetryContext get(Object key) {
+		String name = this.keyMapper.apply(key);
+		RetryContext context = this.contexts.get(name);
+		if (context != null) {
+			return context;
+		}
+		byte[] snapshot = recovered(key, name);
+		if (snapshot == null) {
+			return null;
+		}
+		return this.contexts.computeIfAbsent(name, ignored -> restore(key, snapshot));
+	}
+
+	@Override
+	public void put(Object key, RetryContext context) {
+		String name = this.keyMapper.apply(key);
+		byte[] encoded = this.codec.encode(context);
+		byte[] snapshot = ByteBuffer.allocate(8 + encoded.length)
+			.putLong(System.currentTimeMillis())
+			.put(encoded)
+			.array();
+		synchronized (this.monitor) {
+			// the snapshots only change under the monitor, so the check holds until the
+			// put
+			if (!this.snapshots.containsKey(name) && this.snapshots.size() >= this.capacity) {
+				throw new RetryCacheCapacityExceededException("Retry cache capacity limit breached. "
+						+ "Do you need to re-consider the implementation of the key generator, "
+						+ "or the equals and hashCode of the items that failed?");
+			}
+			this.contexts.put(name, context);
+			compactIfNeeded();
+			byte[] previous = this.snapshots.put(name, snapshot);
+			if (previous != null) {
+				this.garbage += recordSize(name, previous);
+			}
+			append(PUT, name, snapshot);
+		}
+	}
+
+	@Override
+	public void remove(Object key) {
+		String name = this.keyMapper.apply(key);
+		this.contexts.remove(name);
+		synchronized (this.monitor) {
+			compactIfNeeded();
+			byte[] previous = this.snapshots.remove(name);
+			if (previous != null) {
+				append(REMOVE, name, null);
+				this.garbage += recordSize(name, previous) + recordSize(name, null);
+			}
+		}
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		String name = this.keyMapper.apply(key);
+		return this.contexts.containsKey(name) || recovered(key, name) != null;
+	}
+
+	/**
+	 * Rewrite the log with only the latest snapshot of each key.
+	 */
+	public void compact() {
+		synchronized (this.monitor) {
+			try {
+				doCompact();
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException("Cannot compact retry context log " + this.file, ex);
+			}
+		}
+	}
+
+	/**
+	 * Flush the log and close the file. The file stays mapped until the buffer is garbage
+	 * collected.
+	 */
+	@Override
+	public void close() throws IOException {
+		synchronized (this.monitor) {
+			if (this.channel.isOpen()) {
+				this.buffer.force();
+				this.channel.close();
+			}
+		}
+	}
+
+	private byte[] recovered(Object key, String name) {
+		byte[] snapshot = this.snapshots.get(name);
+		if (snapshot == null) {
+			return null;
+		}
+		long updated = ByteBuffer.wrap(snapshot).getLong();
+		if (this.expireAfter > 0 && System.currentTimeMillis() - updated > this.expireAfter) {
+			remove(key);
+			return null;
+		}
+		return snapshot;
+	}
+
+	private RetryContext restore(Object key, byte[] snapshot) {
+		RetryContext context = this.codec.decode(Arrays.copyOfRange(snapshot, 8, snapshot.length), this.retryPolicy);
+		context.setAttribute(RetryContext.STATE_KEY, key);
+		return context;
+	}
+
+	private void open() throws IOException {
+		boolean exists = Files.exists(this.file) && Files.size(this.file) > 0;
+		this.channel = FileChannel.open(this.file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+		this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(this.channel.size(), MIN_FILE_SIZE));
+		if (!exists) {
+			this.buffer.putInt(MAGIC).putInt(VERSION).putInt(0);
+			this.buffer.position(HEADER_SIZE);
+			return;
+		}
+		if (this.buffer.getInt() != MAGIC || this.buffer.getInt() != VERSION) {
+			this.channel.close();
+			throw new IllegalStateException("Not a retry context log: " + this.file);
+		}
+		long records = 0;
+		while (this.buffer.remaining() >= 8) {
+			int start = this.buffer.position();
+			int length = this.buffer.getInt();
+			int checksum = this.buffer.getInt();
+			if (length <= 0 || length > this.buffer.remaining() || checksum != checksum(this.buffer, length)) {
+				// end of the log, or a record torn by a crash
+				this.buffer.position(start);
+				break;
+			}
+			byte op = this.buffer.get();
+			String name = readString(this.buffer);
+			byte[] previous;
+			if (op == PUT) {
+				byte[] snapshot = new byte[start + 8 + length - this.buffer.position()];
+				this.buffer.get(snapshot);
+				previous = this.snapshots.put(name, snapshot);
+			}
+			else {
+				previous = this.snapshots.remove(name);
+				this.garbage += recordSize(name, null);
+			}
+			if (previous != null) {
+				this.garbage += recordSize(name, previous);
+			}
+			records++;
+		}
+		if (this.buffer.remaining() >= 4) {
+			// anything after a torn record must not be mistaken for a record later
+			this.buffer.putInt(this.buffer.position(), 0);
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Recovered " + this.snapshots.size() + " retry contexts from " + records + " records in "
+					+ this.file);
+		}
+	}
+
+	/**
+	 * Compact the log once most of it is garbage. Called before the snapshots are
+	 * updated, so that the compacted log never holds the record about to be appended.
+	 */
+	private void compactIfNeeded() {
+		if (this.buffer.position() > MIN_FILE_SIZE && this.garbage > this.buffer.position() / 2) {
+			try {
+				doCompact();
+			}
+			catch (IOException ex) {
+				// carry on with the old log, and try again once as much garbage has piled
+				// up
+				logger.warn("Cannot compact retry context log " + this.file, ex);
+				this.garbage = 0;
+			}
+		}
+	}
+
+	private void append(byte op, String name, byte[] snapshot) {
+		try {
+			ensureRemaining(recordSize(name, snapshot) + 4);
+			writeRecord(this.buffer, op, name, snapshot);
+			if (this.forceOnWrite) {
+				this.buffer.force();
+			}
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Cannot write retry context log " + this.file, ex);
+		}
+	}
+
+	private void ensureRemaining(int needed) throws IOException {
+		if (this.buffer.remaining() >= needed) {
+			return;
+		}
+		int position = this.buffer.position();
+		long size = Math.max((long) this.buffer.capacity() * 2, (long) position + needed);
+		Assert.state(size <= Integer.MAX_VALUE, "Retry context log is full: " + this.file);
+		this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+		this.buffer.position(position);
+	}
+
+	private void doCompact() throws IOException {
+		Path compacted = this.file.resolveSibling(this.file.getFileName() + ".compact");
+		long live = HEADER_SIZE + 4;
+		for (Map.Entry<String, byte[]> entry : this.snapshots.entrySet()) {
+			live += recordSize(entry.getKey(), entry.getValue());
+		}
+		try (FileChannel target = FileChannel.open(compacted, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			MappedByteBuffer buffer = target.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(live * 2, MIN_FILE_SIZE));
+			buffer.putInt(MAGIC).putInt(VERSION);
+			for (Map.Entry<String, byte[]> entry : this.snapshots.entrySet()) {
+				writeRecord(buffer, PUT, entry.getKey(), entry.getValue());
+			}
+			buffer.force();
+		}
+		this.channel.close();
+		try {
+			Files.move(compacted, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (IOException ex) {
+			// typically a file that is still mapped: keep the old log, which is intact
+			Files.deleteIfExists(compacted);
+			this.channel = FileChannel.open(this.file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			throw ex;
+		}
+		this.channel = FileChannel.open(this.file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		int position = (int) live - 4;
+		this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, this.channel.size());
+		this.buffer.position(position);
+		this.garbage = 0;
+	}
+
+	/**
+	 * Write a record at the current position of the buffer, which must have room for the
+	 * record and the end marker that follows it.
+	 */
+	private static void writeRecord(ByteBuffer buffer, byte op, String name, byte[] snapshot) {
+		int start = buffer.position();
+		buffer.position(start + 8);
+		buffer.put(op);
+		writeString(buffer, name);
+		if (snapshot != null) {
+			buffer.put(snapshot);
+		}
+		int end = buffer.position();
+		int length = end - start - 8;
+		buffer.position(start + 8);
+		int checksum = checksum(buffer, length);
+		// the length goes last so that a record torn half way is never read as complete
+		buffer.putInt(end, 0);
+		buffer.putInt(start + 4, checksum);
+		buffer.putInt(start, length);
+		buffer.position(end);
+	}
+
+	private static int recordSize(String name, byte[] snapshot) {
+		return 8 + 1 + 4 + name.getBytes(StandardCharsets.UTF_8).length + (snapshot != null ? snapshot.length : 0);
+	}
+
+	private static int checksum(ByteBuffer buffer, int length) {
+		CRC32 crc = new CRC32();
+		ByteBuffer body = buffer.slice(buffer.position(), length);
+		crc.update(body);
+		return (int) crc.getValue();
+	}
+
+	private static void writeString(ByteBuffer buffer, String value) {
+		if (value == null) {
+			buffer.putInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		buffer.putInt(bytes.length);
+		buffer.put(bytes);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		int length = buffer.getInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
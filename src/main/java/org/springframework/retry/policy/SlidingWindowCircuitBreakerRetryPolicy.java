@@ -0,0 +1,747 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.policy;
+
+import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.classify.Classifier;
+import org.springframework.retry.ExhaustedRetryException;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryPolicy;
+import org.springframework.retry.context.RetryContextSupport;
+import org.springframework.util.Assert;
+
+/**
+ * A circuit breaker {@link RetryPolicy} that trips on the failure rate or the slow call
+ * rate observed over a sliding window of recent calls.
+ * <p>
+ * The breaker is a state machine with three states. While {@link State#CLOSED CLOSED}
+ * every call is permitted and its outcome is recorded in the sliding window: either a
+ * ring buffer of the last {@link #setSlidingWindowSize(int) slidingWindowSize} calls, or
+ * one bucket per second for the last {@code slidingWindowSize} seconds, depending on the
+ * {@link #setSlidingWindowType(SlidingWindowType) window type}. Once at least
+ * {@link #setMinimumNumberOfCalls(int) minimumNumberOfCalls} outcomes are known and
+ * either the failure rate reaches the {@link #setFailureRateThreshold(float) threshold}
+ * or the share of calls slower than the {@link #setSlowCallDurationThreshold(long) slow
+ * call duration} reaches the {@link #setSlowCallRateThreshold(float) slow call rate
+ * threshold}, the circuit opens. While {@link State#OPEN OPEN} every call is rejected
+ * until the {@link #setWaitDurationInOpenState(long) wait duration} has elapsed, after
+ * which the circuit is {@link State#HALF_OPEN HALF_OPEN}: only
+ * {@link #setPermittedCallsInHalfOpenState(int) permittedCallsInHalfOpenState} probe
+ * calls are let through, and their failure rate decides whether the circuit closes or
+ * opens again. Calls beyond the probe permits are rejected, so a recovering downstream is
+ * never flooded by every waiting caller at once.
+ * <p>
+ * All transitions are made by compare-and-set on an immutable snapshot of the state, so
+ * concurrent callers agree on a single winner and no transition is lost. An outcome is
+ * always recorded against the snapshot that admitted the call, so a slow call admitted
+ * before a transition cannot influence the state that follows it. Each transition is also
+ * emitted as a Java Flight Recorder event when a recording has enabled it.
+ * <p>
+ * Each permitted call is a single attempt: once its outcome has been registered the
+ * policy returns false from {@link #canRetry(RetryContext)} until the context is
+ * {@link #close(RetryContext) closed}. The policy therefore expects to be closed at the
+ * end of every call, which is the case for stateless retry and for stateful retry that
+ * does not roll back, as configured by
+ * {@link org.springframework.retry.interceptor.RetryInterceptorBuilder#circuitBreaker()}.
+ * By default one instance of this policy is one circuit breaker; its state is shared by
+ * all the contexts it opens. With {@link #setCircuitPerKey(boolean) circuitPerKey} every
+ * context gets a circuit of its own instead, so that stateful retry, which caches one
+ * context per {@link org.springframework.retry.RetryState#getKey() state key}, keeps an
+ * independent breaker for each key.
+ *
+ * @since 2.0.6
+ * @see CircuitBreakerRetryPolicy
+ */
+@SuppressWarnings("serial")
+public class SlidingWindowCircuitBreakerRetryPolicy implements RetryPolicy {
+
+	private static final Log logger = LogFactory.getLog(SlidingWindowCircuitBreakerRetryPolicy.class);
+
+	private static final String CALL = SlidingWindowCircuitBreakerRetryPolicy.class.getName() + ".CALL";
+
+	/**
+	 * The states of the circuit breaker.
+	 */
+	public enum State {
+
+		/**
+		 * All calls are permitted and their outcome is recorded.
+		 */
+		CLOSED,
+
+		/**
+		 * All calls are rejected.
+		 */
+		OPEN,
+
+		/**
+		 * A limited number of probe calls is permitted to test the downstream.
+		 */
+		HALF_OPEN
+
+	}
+
+	/**
+	 * The kinds of sliding window used to record outcomes while the circuit is closed.
+	 */
+	public enum SlidingWindowType {
+
+		/**
+		 * The outcomes of the last {@code slidingWindowSize} calls.
+		 */
+		COUNT_BASED,
+
+		/**
+		 * The outcomes of the calls completed in the last {@code slidingWindowSize}
+		 * seconds, aggregated in one bucket per second.
+		 */
+		TIME_BASED
+
+	}
+
+	private final Circuit circuit = new Circuit();
+
+	private SlidingWindowType slidingWindowType = SlidingWindowType.COUNT_BASED;
+
+	private int slidingWindowSize = 100;
+
+	private int minimumNumberOfCalls = 100;
+
+	private float failureRateThreshold = 50;
+
+	private long slowCallDurationThreshold = 60000;
+
+	private float slowCallRateThreshold = 100;
+
+	private long waitDurationInOpenState = 20000;
+
+	private int permittedCallsInHalfOpenState = 10;
+
+	private Classifier<? super Throwable, Boolean> failureClassifier;
+
+	private boolean circuitPerKey;
+
+	/**
+	 * The kind of sliding window used while the circuit is closed. Default
+	 * {@link SlidingWindowType#COUNT_BASED}.
+	 * @param slidingWindowType the sliding window type
+	 */
+	public void setSlidingWindowType(SlidingWindowType slidingWindowType) {
+		Assert.notNull(slidingWindowType, "'slidingWindowType' cannot be null");
+		this.slidingWindowType = slidingWindowType;
+	}
+
+	/**
+	 * The number of most recent calls considered while the circuit is closed, or the
+	 * number of seconds for a {@link SlidingWindowType#TIME_BASED time based} window.
+	 * Default 100.
+	 * @param slidingWindowSize the size of the sliding window
+	 */
+	public void setSlidingWindowSize(int slidingWindowSize) {
+		Assert.isTrue(slidingWindowSize > 0, "'slidingWindowSize' must be greater than zero");
+		this.slidingWindowSize = slidingWindowSize;
+	}
+
+	/**
+	 * The number of outcomes that must have been recorded before the failure rate is
+	 * evaluated. Capped at the sliding window size for a count based window. Default 100.
+	 * @param minimumNumberOfCalls the minimum number of calls
+	 */
+	public void setMinimumNumberOfCalls(int minimumNumberOfCalls) {
+		Assert.isTrue(minimumNumberOfCalls > 0, "'minimumNumberOfCalls' must be greater than zero");
+		this.minimumNumberOfCalls = minimumNumberOfCalls;
+	}
+
+	/**
+	 * The failure rate, in percent, at or above which the circuit opens. Default 50.
+	 * @param failureRateThreshold the threshold, greater than 0 and at most 100
+	 */
+	public void setFailureRateThreshold(float failureRateThreshold) {
+		Assert.isTrue(failureRateThreshold > 0 && failureRateThreshold <= 100,
+				"'failureRateThreshold' must be greater than 0 and not greater than 100");
+		this.failureRateThreshold = failureRateThreshold;
+	}
+
+	/**
+	 * The duration in milliseconds above which a call is considered slow, whether it
+	 * succeeds or fails. Default 60000.
+	 * @param slowCallDurationThreshold the slow call duration in milliseconds
+	 */
+	public void setSlowCallDurationThreshold(long slowCallDurationThreshold) {
+		Assert.isTrue(slowCallDurationThreshold > 0, "'slowCallDurationThreshold' must be greater than zero");
+		this.slowCallDurationThreshold = slowCallDurationThreshold;
+	}
+
+	/**
+	 * The rate of slow calls, in percent, at or above which the circuit opens. Default
+	 * 100.
+	 * @param slowCallRateThreshold the threshold, greater than 0 and at most 100
+	 */
+	public void setSlowCallRateThreshold(float slowCallRateThreshold) {
+		Assert.isTrue(slowCallRateThreshold > 0 && slowCallRateThreshold <= 100,
+				"'slowCallRateThreshold' must be greater than 0 and not greater than 100");
+		this.slowCallRateThreshold = slowCallRateThreshold;
+	}
+
+	/**
+	 * The time in milliseconds the circuit stays open before probe calls are permitted.
+	 * Default 20000.
+	 * @param waitDurationInOpenState the wait duration in milliseconds
+	 */
+	public void setWaitDurationInOpenState(long waitDurationInOpenState) {
+		Assert.isTrue(waitDurationInOpenState >= 0, "'waitDurationInOpenState' must not be negative");
+		this.waitDurationInOpenState = waitDurationInOpenState;
+	}
+
+	/**
+	 * The number of probe calls permitted while the circuit is half-open. Their outcome
+	 * decides whether the circuit closes or opens again. Default 10.
+	 * @param permittedCallsInHalfOpenState the number of probe calls
+	 */
+	public void setPermittedCallsInHalfOpenState(int permittedCallsInHalfOpenState) {
+		Assert.isTrue(permittedCallsInHalfOpenState > 0, "'permittedCallsInHalfOpenState' must be greater than zero");
+		this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+	}
+
+	/**
+	 * Classifier deciding which exceptions count as failures; exceptions classified as
+	 * false are recorded as successful calls. Default null (all exceptions are failures).
+	 * @param failureClassifier the classifier
+	 */
+	public void setFailureClassifier(Classifier<? super Throwable, Boolean> failureClassifier) {
+		this.failureClassifier = failureClassifier;
+	}
+
+	/**
+	 * Give every context opened by this policy a circuit of its own instead of sharing
+	 * one circuit across all of them. Use with stateful retry and a key per partition of
+	 * the downstream (a host, a shard) so that one failing partition does not open the
+	 * circuit for the others. The accessors of this policy then only report on the
+	 * circuit used by stateless calls. Default false.
+	 * <p>
+	 * Since the contexts of this policy are global state, stateful retry caches the
+	 * context of a key, and with it the circuit, as soon as it is opened on the first
+	 * call for that key. Successes before the first failure of a key are recorded in its
+	 * window like any other outcome.
+	 * @param circuitPerKey true to isolate the circuit of each context
+	 */
+	public void setCircuitPerKey(boolean circuitPerKey) {
+		this.circuitPerKey = circuitPerKey;
+	}
+
+	/**
+	 * The current state of the circuit. An open circuit whose wait duration has elapsed
+	 * is reported as open until the next call moves it to half-open.
+	 * @return the current state
+	 */
+	public State getState() {
+		return current(this.circuit).state;
+	}
+
+	/**
+	 * The failure rate, in percent, of the outcomes recorded in the current state, or -1
+	 * if fewer outcomes than required to evaluate it have been recorded.
+	 * @return the failure rate
+	 */
+	public float getFailureRate() {
+		CircuitState current = current(this.circuit);
+		if (current.window == null) {
+			return -1;
+		}
+		int calls = current.window.getCalls();
+		return calls < minimumCalls(current) ? -1 : rate(current.window.getFailures(), calls);
+	}
+
+	/**
+	 * The rate of slow calls, in percent, among the outcomes recorded in the current
+	 * state, or -1 if fewer outcomes than required to evaluate it have been recorded.
+	 * @return the slow call rate
+	 */
+	public float getSlowCallRate() {
+		CircuitState current = current(this.circuit);
+		if (current.window == null) {
+			return -1;
+		}
+		int calls = current.window.getCalls();
+		return calls < minimumCalls(current) ? -1 : rate(current.window.getSlowCalls(), calls);
+	}
+
+	/**
+	 * Force the circuit closed, discarding all recorded outcomes.
+	 */
+	public void reset() {
+		this.circuit.state.set(closed());
+		this.circuit.shortCircuitCount.set(0);
+	}
+
+	@Override
+	public boolean canRetry(RetryContext context) {
+		Call call = callFor(context);
+		if (call.admittedIn != null) {
+			// one attempt per call: the outcome is known once the call has completed
+			if (call.completed && context instanceof SlidingWindowCircuitBreakerRetryContext) {
+				// a stateful execution that rethrows is not closed: this is its last
+				// check, so the next execution on this thread starts afresh
+				((SlidingWindowCircuitBreakerRetryContext) context).release();
+			}
+			return !call.completed;
+		}
+		Circuit circuit = circuitFor(context);
+		CircuitState admittedIn = acquirePermission(context, circuit);
+		if (admittedIn == null) {
+			context.setAttribute(CircuitBreakerRetryPolicy.CIRCUIT_OPEN, true);
+			context.setAttribute(CircuitBreakerRetryPolicy.CIRCUIT_SHORT_COUNT,
+					circuit.shortCircuitCount.incrementAndGet());
+			if (context.getLastThrowable() == null) {
+				// opened on slow calls only: give the recoverer something to act on
+				((RetryContextSupport) context)
+					.registerThrowable(new ExhaustedRetryException("Circuit breaker is open"));
+			}
+			return false;
+		}
+		call.admittedIn = admittedIn;
+		call.completed = false;
+		call.started = System.nanoTime();
+		context.setAttribute(CircuitBreakerRetryPolicy.CIRCUIT_OPEN, false);
+		return true;
+	}
+
+	@Override
+	public RetryContext open(RetryContext parent) {
+		return new SlidingWindowCircuitBreakerRetryContext(parent, this,
+				this.circuitPerKey ? new Circuit() : this.circuit);
+	}
+
+	@Override
+	public void close(RetryContext context) {
+		Call call = callFor(context);
+		if (call.admittedIn != null && !call.completed) {
+			onCallCompleted(context, circuitFor(context), call, false);
+		}
+		call.admittedIn = null;
+		if (context instanceof SlidingWindowCircuitBreakerRetryContext) {
+			((SlidingWindowCircuitBreakerRetryContext) context).release();
+		}
+	}
+
+	@Override
+	public void registerThrowable(RetryContext context, Throwable throwable) {
+		((RetryContextSupport) context).registerThrowable(throwable);
+		Call call = callFor(context);
+		if (call.admittedIn != null && !call.completed) {
+			onCallCompleted(context, circuitFor(context), call, isFailure(throwable));
+		}
+	}
+
+	private Call callFor(RetryContext context) {
+		if (context instanceof SlidingWindowCircuitBreakerRetryContext) {
+			return ((SlidingWindowCircuitBreakerRetryContext) context).currentCall();
+		}
+		// a context opened elsewhere: keep the call with its other attributes
+		Call call = (Call) context.getAttribute(CALL);
+		if (call == null) {
+			call = new Call();
+			context.setAttribute(CALL, call);
+		}
+		return call;
+	}
+
+	private Circuit circuitFor(RetryContext context) {
+		if (context instanceof SlidingWindowCircuitBreakerRetryContext) {
+			return ((SlidingWindowCircuitBreakerRetryContext) context).circuit;
+		}
+		return this.circuit;
+	}
+
+	private boolean isFailure(Throwable throwable) {
+		return this.failureClassifier == null || Boolean.TRUE.equals(this.failureClassifier.classify(throwable));
+	}
+
+	/**
+	 * Permit a call in the current state if possible.
+	 * @return the state that admitted the call, or null if the call is rejected
+	 */
+	private CircuitState acquirePermission(RetryContext context, Circuit circuit) {
+		while (true) {
+			CircuitState current = current(circuit);
+			switch (current.state) {
+				case CLOSED:
+					return current;
+				case HALF_OPEN:
+					return current.tryAcquireProbe() ? current : null;
+				default:
+					if (System.currentTimeMillis() - current.since < this.waitDurationInOpenState) {
+						return null;
+					}
+					// whoever wins, the loop retries against the half-open state
+					transition(context, circuit, current, new CircuitState(State.HALF_OPEN, System.currentTimeMillis(),
+							new CountWindow(this.permittedCallsInHalfOpenState), this.permittedCallsInHalfOpenState));
+			}
+		}
+	}
+
+	private void onCallCompleted(RetryContext context, Circuit circuit, Call call, boolean failure) {
+		call.completed = true;
+		CircuitState admittedIn = call.admittedIn;
+		boolean slow = System.nanoTime() - call.started >= this.slowCallDurationThreshold * 1_000_000;
+		OutcomeWindow window = admittedIn.window;
+		window.record(failure, slow);
+		if (circuit.state.get() != admittedIn) {
+			// the state has moved on since this call was permitted
+			return;
+		}
+		int calls = window.getCalls();
+		if (calls < minimumCalls(admittedIn)) {
+			return;
+		}
+		boolean tripped = rate(window.getFailures(), calls) >= this.failureRateThreshold
+				|| rate(window.getSlowCalls(), calls) >= this.slowCallRateThreshold;
+		if (admittedIn.state == State.CLOSED) {
+			if (tripped) {
+				transition(context, circuit, admittedIn,
+						new CircuitState(State.OPEN, System.currentTimeMillis(), null, 0));
+			}
+		}
+		else if (admittedIn.state == State.HALF_OPEN) {
+			transition(context, circuit, admittedIn,
+					tripped ? new CircuitState(State.OPEN, System.currentTimeMillis(), null, 0) : closed());
+		}
+	}
+
+	private int minimumCalls(CircuitState state) {
+		if (state.state == State.HALF_OPEN) {
+			return this.permittedCallsInHalfOpenState;
+		}
+		if (this.slidingWindowType == SlidingWindowType.TIME_BASED) {
+			return this.minimumNumberOfCalls;
+		}
+		return Math.min(this.minimumNumberOfCalls, this.slidingWindowSize);
+	}
+
+	private static float rate(int count, int calls) {
+		return calls == 0 ? 0 : Math.min(100, count * 100f / calls);
+	}
+
+	private boolean transition(RetryContext context, Circuit circuit, CircuitState from, CircuitState to) {
+		if (!circuit.state.compareAndSet(from, to)) {
+			return false;
+		}
+		if (to.state == State.CLOSED) {
+			circuit.shortCircuitCount.set(0);
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Circuit breaker transition from " + from.state + " to " + to.state);
+		}
+		CircuitBreakerEvents.transition(context.getAttribute(RetryContext.NAME),
+				this.circuitPerKey ? context.getAttribute(RetryContext.STATE_KEY) : null, from.state.name(),
+				to.state.name(), (from.window != null) ? rate(from.window.getFailures(), from.window.getCalls()) : -1);
+		return true;
+	}
+
+	private CircuitState current(Circuit circuit) {
+		CircuitState current = circuit.state.get();
+		if (current == null) {
+			circuit.state.compareAndSet(null, closed());
+			current = circuit.state.get();
+		}
+		return current;
+	}
+
+	private CircuitState closed() {
+		OutcomeWindow window = (this.slidingWindowType == SlidingWindowType.TIME_BASED)
+				? new TimeWindow(this.slidingWindowSize) : new CountWindow(this.slidingWindowSize);
+		return new CircuitState(State.CLOSED, System.currentTimeMillis(), window, 0);
+	}
+
+	/**
+	 * The mutable state of one circuit.
+	 */
+	private static final class Circuit implements Serializable {
+
+		private final AtomicReference<CircuitState> state = new AtomicReference<>();
+
+		private final AtomicInteger shortCircuitCount = new AtomicInteger();
+
+	}
+
+	/**
+	 * Immutable snapshot of the breaker state. Only the outcomes recorded in its window
+	 * and the remaining probe permits change while it is current.
+	 */
+	private static final class CircuitState implements Serializable {
+
+		private final State state;
+
+		private final long since;
+
+		private final OutcomeWindow window;
+
+		private final AtomicInteger probes;
+
+		CircuitState(State state, long since, OutcomeWindow window, int probes) {
+			this.state = state;
+			this.since = since;
+			this.window = window;
+			this.probes = new AtomicInteger(probes);
+		}
+
+		boolean tryAcquireProbe() {
+			int available;
+			do {
+				available = this.probes.get();
+				if (available <= 0) {
+					return false;
+				}
+			}
+			while (!this.probes.compareAndSet(available, available - 1));
+			return true;
+		}
+
+	}
+
+	/**
+	 * Recorded call outcomes. Implementations are lock-free and do not allocate when
+	 * recording or reading.
+	 */
+	abstract static class OutcomeWindow implements Serializable {
+
+		abstract void record(boolean failure, boolean slow);
+
+		abstract int getCalls();
+
+		abstract int getFailures();
+
+		abstract int getSlowCalls();
+
+	}
+
+	/**
+	 * Lock-free ring buffer of the most recent call outcomes with running totals.
+	 */
+	static final class CountWindow extends OutcomeWindow {
+
+		private static final int RECORDED = 1;
+
+		private static final int FAILURE = 2;
+
+		private static final int SLOW = 4;
+
+		private final AtomicIntegerArray outcomes;
+
+		private final AtomicLong cursor = new AtomicLong();
+
+		private final AtomicInteger calls = new AtomicInteger();
+
+		private final AtomicInteger failures = new AtomicInteger();
+
+		private final AtomicInteger slowCalls = new AtomicInteger();
+
+		CountWindow(int size) {
+			this.outcomes = new AtomicIntegerArray(size);
+		}
+
+		@Override
+		void record(boolean failure, boolean slow) {
+			int outcome = RECORDED | (failure ? FAILURE : 0) | (slow ? SLOW : 0);
+			int slot = (int) (this.cursor.getAndIncrement() % this.outcomes.length());
+			int previous = this.outcomes.getAndSet(slot, outcome);
+			if ((previous & RECORDED) == 0) {
+				this.calls.incrementAndGet();
+			}
+			if ((previous & FAILURE) != 0) {
+				this.failures.decrementAndGet();
+			}
+			if ((previous & SLOW) != 0) {
+				this.slowCalls.decrementAndGet();
+			}
+			if (failure) {
+				this.failures.incrementAndGet();
+			}
+			if (slow) {
+				this.slowCalls.incrementAndGet();
+			}
+		}
+
+		@Override
+		int getCalls() {
+			return this.calls.get();
+		}
+
+		@Override
+		int getFailures() {
+			return this.failures.get();
+		}
+
+		@Override
+		int getSlowCalls() {
+			return this.slowCalls.get();
+		}
+
+	}
+
+	/**
+	 * Lock-free time window made of one bucket per second. Each bucket packs the second
+	 * it counts for in its upper 32 bits and the count in its lower 32 bits, so a bucket
+	 * left over from an earlier second is reset by the same compare-and-set that counts
+	 * the new outcome, and is ignored when reading.
+	 */
+	static final class TimeWindow extends OutcomeWindow {
+
+		private final int seconds;
+
+		private final AtomicLongArray calls;
+
+		private final AtomicLongArray failures;
+
+		private final AtomicLongArray slowCalls;
+
+		TimeWindow(int seconds) {
+			this.seconds = seconds;
+			this.calls = new AtomicLongArray(seconds);
+			this.failures = new AtomicLongArray(seconds);
+			this.slowCalls = new AtomicLongArray(seconds);
+		}
+
+		@Override
+		void record(boolean failure, boolean slow) {
+			long second = System.currentTimeMillis() / 1000;
+			int index = (int) (second % this.seconds);
+			increment(this.calls, index, second);
+			if (failure) {
+				increment(this.failures, index, second);
+			}
+			if (slow) {
+				increment(this.slowCalls, index, second);
+			}
+		}
+
+		@Override
+		int getCalls() {
+			return sum(this.calls);
+		}
+
+		@Override
+		int getFailures() {
+			return sum(this.failures);
+		}
+
+		@Override
+		int getSlowCalls() {
+			return sum(this.slowCalls);
+		}
+
+		private static void increment(AtomicLongArray buckets, int index, long second) {
+			long current;
+			long next;
+			do {
+				current = buckets.get(index);
+				next = ((current >>> 32) == second) ? current + 1 : (second << 32) | 1;
+			}
+			while (!buckets.compareAndSet(index, current, next));
+		}
+
+		private int sum(AtomicLongArray buckets) {
+			long second = System.currentTimeMillis() / 1000;
+			int total = 0;
+			for (int i = 0; i < this.seconds; i++) {
+				long bucket = buckets.get(i);
+				if (second - (bucket >>> 32) < this.seconds) {
+					total += (int) bucket;
+				}
+			}
+			return total;
+		}
+
+	}
+
+	/**
+	 * The call permitted in a context, if any.
+	 */
+	private static final class Call implements Serializable {
+
+		private CircuitState admittedIn;
+
+		private boolean completed;
+
+		private long started;
+
+	}
+
+	/**
+	 * Context for {@link SlidingWindowCircuitBreakerRetryPolicy}. It is marked as global
+	 * state so that stateful retry shares a single context per key for the breaker.
+	 * <p>
+	 * The call permitted by the breaker is kept here rather than with the thread, so an
+	 * execution may move between threads and nested executions each have their own. A
+	 * context shared by stateful retry is used by every concurrent caller with the same
+	 * key, and a stateful execution runs on its caller's thread, so there each caller has
+	 * its own call until the context is closed, or until the check that follows a
+	 * failure, since a stateful execution that rethrows is not closed.
+	 */
+	static class SlidingWindowCircuitBreakerRetryContext extends RetryContextSupport {
+
+		private final SlidingWindowCircuitBreakerRetryPolicy policy;
+
+		private final Circuit circuit;
+
+		private final Call call = new Call();
+
+		private final ConcurrentMap<Thread, Call> sharedCalls = new ConcurrentHashMap<>();
+
+		SlidingWindowCircuitBreakerRetryContext(RetryContext parent, SlidingWindowCircuitBreakerRetryPolicy policy,
+				Circuit circuit) {
+			super(parent);
+			this.policy = policy;
+			this.circuit = circuit;
+			setAttribute("state.global", true);
+		}
+
+		Call currentCall() {
+			if (!hasAttribute(RetryContext.STATE_KEY)) {
+				return this.call;
+			}
+			return this.sharedCalls.computeIfAbsent(Thread.currentThread(), thread -> new Call());
+		}
+
+		void release() {
+			if (hasAttribute(RetryContext.STATE_KEY)) {
+				this.sharedCalls.remove(Thread.currentThread());
+			}
+		}
+
+		public boolean isOpen() {
+			return getState() == State.OPEN;
+		}
+
+		public State getState() {
+			return this.policy.current(this.circuit).state;
+		}
+
+	}
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.stats;
+
+import java.util.ArrayList;
+
+import org.springframework.retry.RetryStatistics;
+import org.springframework.retry.support.BoundedConcurrentMap;
+
+/**
+ * A {@link StatisticsRepository} holding a bounded number of statistics, for retry blocks
+ * whose names have a high cardinality (for instance when they include dynamic values).
+ * When the maximum number of entries is exceeded the least recently updated ones are
+ * evicted, on the thread adding a new entry, in batches, so the cost is amortized over
+ * many additions; updates racing with the eviction of their statistics may be lost.
+ * Statistics that have not been updated for the idle timeout are expired by the same
+ * batches, and whenever {@link #findOne(String) findOne} or {@link #findAll() findAll}
+ * come across them, so a repository that stops getting new names still forgets them.
+ *
+ * @since 2.0.6
+ * @see BoundedConcurrentMap
+ */
+public class BoundedStatisticsRepository implements StatisticsRepository {
+
+	private final BoundedConcurrentMap<String, MutableRetryStatistics> map = new BoundedConcurrentMap<>(1000);
+
+	private RetryStatisticsFactory factory = new DefaultRetryStatisticsFactory();
+
+	public void setRetryStatisticsFactory(RetryStatisticsFactory factory) {
+		this.factory = factory;
+	}
+
+	/**
+	 * The maximum number of statistics to keep. Default 1000.
+	 * @param maxEntries the maximum number of entries
+	 */
+	public void setMaxEntries(int maxEntries) {
+		this.map.setMaxSize(maxEntries);
+	}
+
+	/**
+	 * The time in milliseconds after which statistics that have not been updated are
+	 * removed. Default 0: statistics are only evicted when there are too many of them.
+	 * @param idleTimeout the idle timeout in milliseconds
+	 */
+	public void setIdleTimeout(long idleTimeout) {
+		this.map.setExpireAfterAccess(idleTimeout);
+	}
+
+	@Override
+	public RetryStatistics findOne(String name) {
+		return this.map.peek(name);
+	}
+
+	@Override
+	public Iterable<RetryStatistics> findAll() {
+		return new ArrayList<>(this.map.values());
+	}
+
+	@Override
+	public void addStarted(String name) {
+		getStatistics(name).incrementStartedCount();
+	}
+
+	@Override
+	public void addError(String name) {
+		getStatistics(name).incrementErrorCount();
+	}
+
+	@Override
+	public void addRecovery(String name) {
+		getStatistics(name).incrementRecoveryCount();
+	}
+
+	@Override
+	public void addComplete(String name) {
+		getStatistics(name).incrementCompleteCount();
+	}
+
+	@Override
+	public void addAbort(String name) {
+		getStatistics(name).incrementAbortCount();
+	}
+
+	/**
+	 * The number of statistics currently held.
+	 * @return the number of entries
+	 */
+	public int size() {
+		return this.map.size();
+	}
+
+	private MutableRetryStatistics getStatistics(String name) {
+		return this.map.computeIfAbsent(name, this.factory::create);
+	}
+
+}
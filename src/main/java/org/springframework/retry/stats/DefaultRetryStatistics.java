@@ -16,7 +16,7 @@
 
 package org.springframework.retry.stats;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.springframework.core.AttributeAccessorSupport;
 import org.springframework.retry.RetryStatistics;
@@ -31,15 +31,15 @@ public class DefaultRetryStatistics extends AttributeAccessorSupport
 
 	private String name;
 
-	private final AtomicInteger startedCount = new AtomicInteger();
+	private final LongAdder startedCount = new LongAdder();
 
-	private final AtomicInteger completeCount = new AtomicInteger();
+	private final LongAdder completeCount = new LongAdder();
 
-	private final AtomicInteger recoveryCount = new AtomicInteger();
+	private final LongAdder recoveryCount = new LongAdder();
 
-	private final AtomicInteger errorCount = new AtomicInteger();
+	private final LongAdder errorCount = new LongAdder();
 
-	private final AtomicInteger abortCount = new AtomicInteger();
+	private final LongAdder abortCount = new LongAdder();
 
 	DefaultRetryStatistics() {
 	}
@@ -50,22 +50,22 @@ public class DefaultRetryStatistics extends AttributeAccessorSupport
 
 	@Override
 	public int getCompleteCount() {
-		return completeCount.get();
+		return saturatedCast(this.completeCount.sum());
 	}
 
 	@Override
 	public int getStartedCount() {
-		return startedCount.get();
+		return saturatedCast(this.startedCount.sum());
 	}
 
 	@Override
 	public int getErrorCount() {
-		return errorCount.get();
+		return saturatedCast(this.errorCount.sum());
 	}
 
 	@Override
 	public int getAbortCount() {
-		return abortCount.get();
+		return saturatedCast(this.abortCount.sum());
 	}
 
 	@Override
@@ -75,7 +75,32 @@ public class DefaultRetryStatistics extends AttributeAccessorSupport
 
 	@Override
 	public int getRecoveryCount() {
-		return recoveryCount.get();
+		return saturatedCast(this.recoveryCount.sum());
+	}
+
+	@Override
+	public long getCompleteCountAsLong() {
+		return this.completeCount.sum();
+	}
+
+	@Override
+	public long getStartedCountAsLong() {
+		return this.startedCount.sum();
+	}
+
+	@Override
+	public long getErrorCountAsLong() {
+		return this.errorCount.sum();
+	}
+
+	@Override
+	public long getAbortCountAsLong() {
+		return this.abortCount.sum();
+	}
+
+	@Override
+	public long getRecoveryCountAsLong() {
+		return this.recoveryCount.sum();
 	}
 
 	public void setName(String name) {
@@ -84,27 +109,31 @@ public class DefaultRetryStatistics extends AttributeAccessorSupport
 
 	@Override
 	public void incrementStartedCount() {
-		this.startedCount.incrementAndGet();
+		this.startedCount.increment();
 	}
 
 	@Override
 	public void incrementCompleteCount() {
-		this.completeCount.incrementAndGet();
+		this.completeCount.increment();
 	}
 
 	@Override
 	public void incrementRecoveryCount() {
-		this.recoveryCount.incrementAndGet();
+		this.recoveryCount.increment();
 	}
 
 	@Override
 	public void incrementErrorCount() {
-		this.errorCount.incrementAndGet();
+		this.errorCount.increment();
 	}
 
 	@Override
 	public void incrementAbortCount() {
-		this.abortCount.incrementAndGet();
+		this.abortCount.increment();
+	}
+
+	private static int saturatedCast(long count) {
+		return (int) Math.min(count, Integer.MAX_VALUE);
 	}
 
 	@Override
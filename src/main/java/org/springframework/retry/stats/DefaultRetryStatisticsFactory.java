@@ -24,6 +24,8 @@ public class DefaultRetryStatisticsFactory implements RetryStatisticsFactory {
 
 	private long window = 15000;
 
+	private boolean recordLatencies;
+
 	/**
 	 * Window in milliseconds for exponential decay factor in rolling averages.
 	 * @param window the window to set
@@ -32,9 +34,20 @@ public class DefaultRetryStatisticsFactory implements RetryStatisticsFactory {
 		this.window = window;
 	}
 
+	/**
+	 * Whether to create {@link LatencyRetryStatistics}, for a
+	 * {@link LatencyStatisticsListener} to record latency histograms in. Default false.
+	 * @param recordLatencies true to create statistics with latency histograms
+	 * @since 2.0.6
+	 */
+	public void setRecordLatencies(boolean recordLatencies) {
+		this.recordLatencies = recordLatencies;
+	}
+
 	@Override
 	public MutableRetryStatistics create(String name) {
-		ExponentialAverageRetryStatistics stats = new ExponentialAverageRetryStatistics(name);
+		ExponentialAverageRetryStatistics stats = this.recordLatencies ? new LatencyRetryStatistics(name)
+				: new ExponentialAverageRetryStatistics(name);
 		stats.setWindow(window);
 		return stats;
 	}
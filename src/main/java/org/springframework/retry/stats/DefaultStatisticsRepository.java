@@ -16,7 +16,7 @@
 
 package org.springframework.retry.stats;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -43,7 +43,7 @@ public class DefaultStatisticsRepository implements StatisticsRepository {
 
 	@Override
 	public Iterable<RetryStatistics> findAll() {
-		return new ArrayList<>(map.values());
+		return Collections.unmodifiableCollection(this.map.values());
 	}
 
 	@Override
@@ -72,11 +72,10 @@ public class DefaultStatisticsRepository implements StatisticsRepository {
 	}
 
 	private MutableRetryStatistics getStatistics(String name) {
-		MutableRetryStatistics stats;
-		if (!map.containsKey(name)) {
-			map.putIfAbsent(name, factory.create(name));
+		MutableRetryStatistics stats = this.map.get(name);
+		if (stats == null) {
+			stats = this.map.computeIfAbsent(name, this.factory::create);
 		}
-		stats = map.get(name);
 		return stats;
 	}
 
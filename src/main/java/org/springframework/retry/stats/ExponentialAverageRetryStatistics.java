@@ -16,6 +16,9 @@
 
 package org.springframework.retry.stats;
 
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * @author Dave Syer
  *
@@ -114,27 +117,71 @@ public class ExponentialAverageRetryStatistics extends DefaultRetryStatistics {
 		abort.increment();
 	}
 
-	private class ExponentialAverage {
+	/**
+	 * An exponentially decaying count of events. Events are counted in time buckets of a
+	 * fraction of the window, and the buckets are folded with their decay factor when the
+	 * value is read, so counting an event is lock-free and needs no exponential. Events
+	 * older than {@link #SPAN} windows, whose weight is below 0.1%, are dropped.
+	 */
+	private static final class ExponentialAverage {
+
+		private static final int BUCKETS_PER_WINDOW = 16;
+
+		private static final int SPAN = 8;
 
 		private final double alpha;
 
-		private volatile long lastTime = System.currentTimeMillis();
+		private final long bucketWidth;
 
-		private volatile double value = 0;
+		private final AtomicReferenceArray<Bucket> buckets;
 
-		public ExponentialAverage(long window) {
-			alpha = 1. / window;
+		ExponentialAverage(long window) {
+			this.alpha = 1. / window;
+			this.bucketWidth = Math.max(1, window / BUCKETS_PER_WINDOW);
+			this.buckets = new AtomicReferenceArray<>(
+					(int) Math.max(1, Math.min(SPAN * window / this.bucketWidth, SPAN * BUCKETS_PER_WINDOW)));
 		}
 
-		public synchronized void increment() {
-			long time = System.currentTimeMillis();
-			value = value * Math.exp(-alpha * (time - lastTime)) + 1;
-			lastTime = time;
+		void increment() {
+			long epoch = System.currentTimeMillis() / this.bucketWidth;
+			int index = (int) (epoch % this.buckets.length());
+			Bucket bucket = this.buckets.get(index);
+			while (bucket == null || bucket.epoch < epoch) {
+				Bucket current = new Bucket(epoch);
+				if (this.buckets.compareAndSet(index, bucket, current)) {
+					bucket = current;
+				}
+				else {
+					bucket = this.buckets.get(index);
+				}
+			}
+			bucket.count.increment();
 		}
 
-		public double getValue() {
+		double getValue() {
 			long time = System.currentTimeMillis();
-			return value * Math.exp(-alpha * (time - lastTime));
+			long epoch = time / this.bucketWidth;
+			double value = 0;
+			for (int i = 0; i < this.buckets.length(); i++) {
+				Bucket bucket = this.buckets.get(i);
+				if (bucket != null && epoch - bucket.epoch < this.buckets.length()) {
+					long age = Math.max(0, time - bucket.epoch * this.bucketWidth - this.bucketWidth / 2);
+					value += bucket.count.sum() * Math.exp(-this.alpha * age);
+				}
+			}
+			return value;
+		}
+
+	}
+
+	private static final class Bucket {
+
+		private final long epoch;
+
+		private final LongAdder count = new LongAdder();
+
+		Bucket(long epoch) {
+			this.epoch = epoch;
 		}
 
 	}
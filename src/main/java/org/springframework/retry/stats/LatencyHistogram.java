@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.stats;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.util.Assert;
+
+/**
+ * A fixed-memory histogram of durations in nanoseconds, with log-linear buckets: each
+ * power of two is split in {@code 2^precision} linear buckets, so the values reported are
+ * within {@code 2^-precision} of the recorded ones: about 6% with the default precision
+ * of 4, 0.4% with a precision of 8. Values below {@code 2^(precision + 1)} are exact.
+ * Durations of {@code 2^45} nanoseconds, about 9.8 hours, and above are counted in the
+ * last bucket. Recording is lock-free; reads are not atomic with respect to concurrent
+ * recording. Histograms of the same precision can be {@link #merge(LatencyHistogram)
+ * merged}.
+ *
+ * @since 2.0.6
+ */
+public class LatencyHistogram {
+
+	private static final int DEFAULT_PRECISION = 4;
+
+	private static final int MAX_PRECISION = 10;
+
+	private static final int MAX_EXPONENT = 44;
+
+	private final int subBucketBits;
+
+	private final int subBuckets;
+
+	private final int buckets;
+
+	private final AtomicLongArray counts;
+
+	private final LongAdder total = new LongAdder();
+
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Create a histogram with the default precision of 4 bits.
+	 */
+	public LatencyHistogram() {
+		this(DEFAULT_PRECISION);
+	}
+
+	/**
+	 * Create a histogram with the given precision.
+	 * @param precision the binary logarithm of the number of linear buckets per power of
+	 * two, between 1 and 10
+	 */
+	public LatencyHistogram(int precision) {
+		Assert.isTrue(precision >= 1 && precision <= MAX_PRECISION,
+				"'precision' must be between 1 and " + MAX_PRECISION);
+		this.subBucketBits = precision;
+		this.subBuckets = 1 << precision;
+		this.buckets = (MAX_EXPONENT - precision + 2) * this.subBuckets;
+		this.counts = new AtomicLongArray(this.buckets);
+	}
+
+	/**
+	 * Record a duration.
+	 * @param nanos the duration in nanoseconds, negative values are recorded as 0
+	 */
+	public void record(long nanos) {
+		long value = Math.max(0, nanos);
+		this.counts.incrementAndGet(indexOf(value));
+		this.total.add(value);
+		if (value > this.max.get()) {
+			this.max.accumulateAndGet(value, Math::max);
+		}
+	}
+
+	/**
+	 * Add the durations recorded by another histogram to this one.
+	 * @param other a histogram with the same precision
+	 */
+	public void merge(LatencyHistogram other) {
+		Assert.isTrue(other.subBucketBits == this.subBucketBits, "Cannot merge histograms of different precisions");
+		for (int i = 0; i < this.buckets; i++) {
+			long count = other.counts.get(i);
+			if (count != 0) {
+				this.counts.addAndGet(i, count);
+			}
+		}
+		this.total.add(other.total.sum());
+		this.max.accumulateAndGet(other.max.get(), Math::max);
+	}
+
+	/**
+	 * The number of durations recorded.
+	 * @return the count
+	 */
+	public long getCount() {
+		long count = 0;
+		for (int i = 0; i < this.buckets; i++) {
+			count += this.counts.get(i);
+		}
+		return count;
+	}
+
+	/**
+	 * The longest duration recorded.
+	 * @return the maximum in nanoseconds
+	 */
+	public long getMax() {
+		return this.max.get();
+	}
+
+	/**
+	 * The mean of the durations recorded.
+	 * @return the mean in nanoseconds, or 0 if nothing was recorded
+	 */
+	public double getMean() {
+		long count = getCount();
+		return count == 0 ? 0 : (double) this.total.sum() / count;
+	}
+
+	/**
+	 * The duration below which the given percentage of the durations fall, rounded up to
+	 * the upper bound of its bucket (but never above the maximum).
+	 * @param percentile the percentile, between 0 and 100
+	 * @return the duration in nanoseconds, or 0 if nothing was recorded
+	 */
+	public long getValueAtPercentile(double percentile) {
+		Assert.isTrue(percentile >= 0 && percentile <= 100, "'percentile' must be between 0 and 100");
+		long[] snapshot = new long[this.buckets];
+		long count = 0;
+		for (int i = 0; i < this.buckets; i++) {
+			snapshot[i] = this.counts.get(i);
+			count += snapshot[i];
+		}
+		if (count == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+		return valueAtRank(snapshot, rank - 1);
+	}
+
+	/**
+	 * The duration of the given rank among the durations recorded, in ascending order,
+	 * rounded up to the upper bound of its bucket (but never above the maximum).
+	 * @param rank the rank, 0 for the shortest duration
+	 * @return the duration in nanoseconds, or the maximum if fewer durations were
+	 * recorded
+	 */
+	public long getValueAtRank(long rank) {
+		long[] snapshot = new long[this.buckets];
+		for (int i = 0; i < this.buckets; i++) {
+			snapshot[i] = this.counts.get(i);
+		}
+		return valueAtRank(snapshot, rank);
+	}
+
+	private long valueAtRank(long[] snapshot, long rank) {
+		long seen = 0;
+		for (int i = 0; i < this.buckets; i++) {
+			seen += snapshot[i];
+			if (seen > rank) {
+				return Math.min(highestValueOf(i), getMax());
+			}
+		}
+		return getMax();
+	}
+
+	int indexOf(long value) {
+		if (value < this.subBuckets) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		if (exponent > MAX_EXPONENT) {
+			return this.buckets - 1;
+		}
+		int subBucket = (int) (value >>> (exponent - this.subBucketBits)) & (this.subBuckets - 1);
+		return (exponent - this.subBucketBits + 1) * this.subBuckets + subBucket;
+	}
+
+	long highestValueOf(int index) {
+		if (index < this.subBuckets) {
+			return index;
+		}
+		int exponent = index / this.subBuckets + this.subBucketBits - 1;
+		int subBucket = index % this.subBuckets;
+		long width = 1L << (exponent - this.subBucketBits);
+		return (this.subBuckets + subBucket) * width + width - 1;
+	}
+
+	@Override
+	public String toString() {
+		return "LatencyHistogram [count=" + getCount() + ", mean=" + getMean() + ", p50=" + getValueAtPercentile(50)
+				+ ", p99=" + getValueAtPercentile(99) + ", max=" + getMax() + "]";
+	}
+
+}
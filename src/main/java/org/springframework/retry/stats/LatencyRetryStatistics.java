@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.stats;
+
+/**
+ * Retry statistics that also keep histograms of the latency of each attempt, of each call
+ * (all the attempts and the back offs between them) and of the back offs. The histograms
+ * are fed by a {@link LatencyStatisticsListener}.
+ *
+ * @since 2.0.6
+ */
+@SuppressWarnings("serial")
+public class LatencyRetryStatistics extends ExponentialAverageRetryStatistics {
+
+	private final LatencyHistogram attemptLatency = new LatencyHistogram();
+
+	private final LatencyHistogram callLatency = new LatencyHistogram();
+
+	private final LatencyHistogram backOffTime = new LatencyHistogram();
+
+	public LatencyRetryStatistics(String name) {
+		super(name);
+	}
+
+	/**
+	 * The latency of each attempt: from the start of the attempt to its success or
+	 * failure.
+	 * @return the attempt latency histogram
+	 */
+	public LatencyHistogram getAttemptLatency() {
+		return this.attemptLatency;
+	}
+
+	/**
+	 * The latency of each call: from the opening of the retry context to its closing.
+	 * @return the call latency histogram
+	 */
+	public LatencyHistogram getCallLatency() {
+		return this.callLatency;
+	}
+
+	/**
+	 * The time slept by each back off.
+	 * @return the back off time histogram
+	 */
+	public LatencyHistogram getBackOffTime() {
+		return this.backOffTime;
+	}
+
+}
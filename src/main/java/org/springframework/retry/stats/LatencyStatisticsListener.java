@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.stats;
+
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryStatistics;
+import org.springframework.retry.backoff.Sleeper;
+import org.springframework.retry.support.RetrySynchronizationManager;
+
+/**
+ * A {@link StatisticsListener} that also records the latency of attempts and calls in the
+ * {@link LatencyRetryStatistics} of the repository (see
+ * {@link DefaultRetryStatisticsFactory#setRecordLatencies(boolean)}).
+ * <p>
+ * The listener cannot see back offs, so unless the back off policy sleeps with a
+ * {@link #timing(Sleeper) timing sleeper} the latency of an attempt includes the back off
+ * that preceded it, and no back off time is recorded.
+ *
+ * @since 2.0.6
+ */
+public class LatencyStatisticsListener extends StatisticsListener {
+
+	private static final String CALL_START = "stats.latency.callStart";
+
+	private static final String ATTEMPT_START = "stats.latency.attemptStart";
+
+	private static final String BACK_OFF_TIME = "stats.latency.backOffTime";
+
+	private static final String SUCCESSFUL_ATTEMPT = "stats.latency.successfulAttempt";
+
+	private final StatisticsRepository repository;
+
+	public LatencyStatisticsListener(StatisticsRepository repository) {
+		super(repository);
+		this.repository = repository;
+	}
+
+	/**
+	 * Wrap a {@link Sleeper} so that the time it sleeps is recorded as back off time, and
+	 * not counted in the latency of the next attempt.
+	 * @param sleeper the sleeper of the back off policy
+	 * @return a sleeper to use in the back off policy instead
+	 */
+	public static Sleeper timing(Sleeper sleeper) {
+		return new TimingSleeper(sleeper);
+	}
+
+	@Override
+	public <T, E extends Throwable> boolean open(RetryContext context, RetryCallback<T, E> callback) {
+		long now = System.nanoTime();
+		context.setAttribute(CALL_START, now);
+		context.setAttribute(ATTEMPT_START, now);
+		return true;
+	}
+
+	@Override
+	public <T, E extends Throwable> void onSuccess(RetryContext context, RetryCallback<T, E> callback, T result) {
+		// the statistics may not exist before the context is closed
+		context.setAttribute(SUCCESSFUL_ATTEMPT, endAttempt(context));
+	}
+
+	@Override
+	public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback,
+			Throwable throwable) {
+		super.onError(context, callback, throwable);
+		long attempt = endAttempt(context);
+		LatencyRetryStatistics statistics = getStatistics(context);
+		if (statistics != null) {
+			statistics.getAttemptLatency().record(attempt);
+		}
+	}
+
+	@Override
+	public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback,
+			Throwable throwable) {
+		super.close(context, callback, throwable);
+		LatencyRetryStatistics statistics = getStatistics(context);
+		Long callStart = (Long) context.removeAttribute(CALL_START);
+		Long successfulAttempt = (Long) context.removeAttribute(SUCCESSFUL_ATTEMPT);
+		context.removeAttribute(ATTEMPT_START);
+		if (statistics != null && callStart != null) {
+			statistics.getCallLatency().record(System.nanoTime() - callStart);
+			if (successfulAttempt != null) {
+				statistics.getAttemptLatency().record(successfulAttempt);
+			}
+		}
+	}
+
+	private long endAttempt(RetryContext context) {
+		long now = System.nanoTime();
+		Long start = (Long) context.getAttribute(ATTEMPT_START);
+		context.setAttribute(ATTEMPT_START, now);
+		Long backOff = (Long) context.removeAttribute(BACK_OFF_TIME);
+		if (backOff != null) {
+			LatencyRetryStatistics statistics = getStatistics(context);
+			if (statistics != null) {
+				statistics.getBackOffTime().record(backOff);
+			}
+		}
+		return start != null ? now - start : 0;
+	}
+
+	private LatencyRetryStatistics getStatistics(RetryContext context) {
+		String name = (String) context.getAttribute(RetryContext.NAME);
+		RetryStatistics statistics = name != null ? this.repository.findOne(name) : null;
+		return statistics instanceof LatencyRetryStatistics ? (LatencyRetryStatistics) statistics : null;
+	}
+
+	@SuppressWarnings("serial")
+	private static final class TimingSleeper implements Sleeper {
+
+		private final Sleeper delegate;
+
+		private TimingSleeper(Sleeper delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void sleep(long backOffPeriod) throws InterruptedException {
+			long start = System.nanoTime();
+			try {
+				this.delegate.sleep(backOffPeriod);
+			}
+			finally {
+				RetryContext context = RetrySynchronizationManager.getContext();
+				if (context != null) {
+					long end = System.nanoTime();
+					context.setAttribute(BACK_OFF_TIME, end - start);
+					context.setAttribute(ATTEMPT_START, end);
+				}
+			}
+		}
+
+	}
+
+}
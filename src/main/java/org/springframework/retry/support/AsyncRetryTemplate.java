@@ -0,0 +1,420 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.retry.AsyncRetryOperations;
+import org.springframework.retry.RecoveryCallback;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryException;
+import org.springframework.retry.RetryListener;
+import org.springframework.retry.RetryPolicy;
+import org.springframework.retry.TerminatedRetryException;
+import org.springframework.retry.backoff.BackOffContext;
+import org.springframework.retry.backoff.BackOffPolicy;
+import org.springframework.retry.backoff.NoBackOffPolicy;
+import org.springframework.retry.backoff.Sleeper;
+import org.springframework.retry.backoff.SleepingBackOffPolicy;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+import org.springframework.util.Assert;
+
+/**
+ * Non-blocking counterpart of {@link RetryTemplate} for operations that return a
+ * {@link CompletionStage}.
+ * <p>
+ * Each attempt is started by invoking the {@link RetryCallback}; when the returned stage
+ * fails, the {@link RetryPolicy} decides whether another attempt is allowed, and the next
+ * attempt is scheduled on the supplied {@link ScheduledExecutorService} once the back off
+ * period has elapsed. No thread is parked while a retry is waiting, so a large number of
+ * in-flight retries only costs the heap needed by their contexts.
+ * <p>
+ * The usual {@link RetryPolicy}, {@link BackOffPolicy} and {@link RetryListener}
+ * contracts apply. A {@link SleepingBackOffPolicy} is cloned with a {@link Sleeper} that
+ * records the requested period instead of pausing, and that period becomes the delay of
+ * the next attempt. Any other {@link BackOffPolicy} is invoked as is, on the thread that
+ * completed the failed attempt, so it should not block.
+ * <p>
+ * Listeners receive the value the stage completed with in
+ * {@link RetryListener#onSuccess(RetryContext, RetryCallback, Object)}, and may throw
+ * from it to force a retry, exactly as with {@link RetryTemplate}. The
+ * {@link RetryContext} is registered with the {@link RetrySynchronizationManager} while
+ * the callback and the recovery callback are invoked. Stateful retry is not supported.
+ * <p>
+ * This class is thread-safe; the configuration may be changed at any time without
+ * affecting retries already in progress.
+ *
+ * @since 2.0.6
+ * @see RetryTemplate
+ */
+public class AsyncRetryTemplate implements AsyncRetryOperations {
+
+	protected final Log logger = LogFactory.getLog(getClass());
+
+	private final ScheduledExecutorService scheduler;
+
+	private volatile BackOffPolicy backOffPolicy = new NoBackOffPolicy();
+
+	private volatile RetryPolicy retryPolicy = new SimpleRetryPolicy(3);
+
+	private volatile RetryListener[] listeners = new RetryListener[0];
+
+	/**
+	 * Create a template that schedules delayed attempts on the given scheduler.
+	 * @param scheduler the scheduler used to start every attempt after the first; it is
+	 * usually shared by many templates and is not shut down by this class.
+	 */
+	public AsyncRetryTemplate(ScheduledExecutorService scheduler) {
+		Assert.notNull(scheduler, "'scheduler' cannot be null");
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Setter for listeners. The listeners are executed before and after a retry block
+	 * (i.e. before and after all the attempts), and on an error (every attempt).
+	 * @param listeners the {@link RetryListener}s
+	 * @see RetryListener
+	 */
+	public void setListeners(RetryListener[] listeners) {
+		this.listeners = Arrays.asList(listeners).toArray(new RetryListener[listeners.length]);
+	}
+
+	/**
+	 * Register an additional listener at the end of the list.
+	 * @param listener the {@link RetryListener}
+	 * @see #setListeners(RetryListener[])
+	 */
+	public void registerListener(RetryListener listener) {
+		List<RetryListener> list = new ArrayList<>(Arrays.asList(this.listeners));
+		list.add(listener);
+		this.listeners = list.toArray(new RetryListener[list.size()]);
+	}
+
+	/**
+	 * Setter for {@link BackOffPolicy}. A {@link SleepingBackOffPolicy} is cloned so that
+	 * its sleeps are turned into scheduling delays.
+	 * @param backOffPolicy the {@link BackOffPolicy}
+	 */
+	public void setBackOffPolicy(BackOffPolicy backOffPolicy) {
+		Assert.notNull(backOffPolicy, "'backOffPolicy' cannot be null");
+		if (backOffPolicy instanceof SleepingBackOffPolicy) {
+			this.backOffPolicy = ((SleepingBackOffPolicy<?>) backOffPolicy).withSleeper(new SchedulingSleeper());
+		}
+		else {
+			this.backOffPolicy = backOffPolicy;
+		}
+	}
+
+	/**
+	 * Setter for {@link RetryPolicy}.
+	 * @param retryPolicy the {@link RetryPolicy}
+	 */
+	public void setRetryPolicy(RetryPolicy retryPolicy) {
+		Assert.notNull(retryPolicy, "'retryPolicy' cannot be null");
+		this.retryPolicy = retryPolicy;
+	}
+
+	@Override
+	public final <T, E extends Throwable> CompletableFuture<T> execute(
+			RetryCallback<? extends CompletionStage<T>, E> retryCallback) {
+		return doExecute(retryCallback, null);
+	}
+
+	@Override
+	public final <T, E extends Throwable> CompletableFuture<T> execute(
+			RetryCallback<? extends CompletionStage<T>, E> retryCallback, RecoveryCallback<T> recoveryCallback) {
+		return doExecute(retryCallback, recoveryCallback);
+	}
+
+	/**
+	 * Open a new retry context and start the first attempt on the calling thread.
+	 * Subsequent attempts are started by the scheduler.
+	 * @param retryCallback the {@link RetryCallback}
+	 * @param recoveryCallback the {@link RecoveryCallback} (might be null)
+	 * @param <T> the type of the value the stage completes with
+	 * @param <E> the exception the callback may throw synchronously
+	 * @return the future reporting the outcome of the retry
+	 */
+	protected <T, E extends Throwable> CompletableFuture<T> doExecute(
+			RetryCallback<? extends CompletionStage<T>, E> retryCallback, RecoveryCallback<T> recoveryCallback) {
+		Assert.notNull(retryCallback, "'retryCallback' cannot be null");
+		AsyncRetryExecution<T> execution = new AsyncRetryExecution<>(this.retryPolicy, this.backOffPolicy,
+				this.listeners, retryCallback, recoveryCallback);
+		execution.start();
+		return execution.future;
+	}
+
+	private static Throwable unwrap(Throwable throwable) {
+		if ((throwable instanceof CompletionException || throwable instanceof ExecutionException)
+				&& throwable.getCause() != null) {
+			return throwable.getCause();
+		}
+		return throwable;
+	}
+
+	/**
+	 * The state of one retry, carried from attempt to attempt across threads.
+	 */
+	private final class AsyncRetryExecution<T> {
+
+		private final CompletableFuture<T> future = new CompletableFuture<>();
+
+		private final RetryPolicy retryPolicy;
+
+		private final BackOffPolicy backOffPolicy;
+
+		private final RetryListener[] listeners;
+
+		private final RetryCallback<? extends CompletionStage<T>, ?> retryCallback;
+
+		private final RecoveryCallback<T> recoveryCallback;
+
+		private final RetryContext context;
+
+		private BackOffContext backOffContext;
+
+		private volatile Throwable lastException;
+
+		AsyncRetryExecution(RetryPolicy retryPolicy, BackOffPolicy backOffPolicy, RetryListener[] listeners,
+				RetryCallback<? extends CompletionStage<T>, ?> retryCallback, RecoveryCallback<T> recoveryCallback) {
+			this.retryPolicy = retryPolicy;
+			this.backOffPolicy = backOffPolicy;
+			this.listeners = listeners;
+			this.retryCallback = retryCallback;
+			this.recoveryCallback = recoveryCallback;
+			this.context = retryPolicy.open(null);
+		}
+
+		void start() {
+			try {
+				boolean running = true;
+				for (RetryListener listener : this.listeners) {
+					running = running && listener.open(this.context, this.retryCallback);
+				}
+				if (!running) {
+					throw new TerminatedRetryException(
+							"Retry terminated abnormally by interceptor before first attempt");
+				}
+				if (!this.context.hasAttribute(RetryContext.MAX_ATTEMPTS)) {
+					this.context.setAttribute(RetryContext.MAX_ATTEMPTS, this.retryPolicy.getMaxAttempts());
+				}
+				this.backOffContext = this.backOffPolicy.start(this.context);
+				if (this.backOffContext != null) {
+					this.context.setAttribute("backOffContext", this.backOffContext);
+				}
+			}
+			catch (Throwable ex) {
+				complete(null, ex);
+				return;
+			}
+			attempt();
+		}
+
+		void attempt() {
+			if (this.future.isDone()) {
+				// cancelled by the caller while waiting for the back off
+				complete(null, new CancellationException("Retry cancelled"));
+				return;
+			}
+			if (!canRetry()) {
+				exhausted();
+				return;
+			}
+			if (AsyncRetryTemplate.this.logger.isDebugEnabled()) {
+				AsyncRetryTemplate.this.logger.debug("Retry: count=" + this.context.getRetryCount() + labelMessage());
+			}
+			this.lastException = null;
+			CompletionStage<T> stage;
+			RetryContext previous = RetrySynchronizationManager.register(this.context);
+			try {
+				stage = this.retryCallback.doWithRetry(this.context);
+				if (stage == null) {
+					stage = CompletableFuture
+						.failedFuture(new IllegalStateException("Retry callback returned a null CompletionStage"));
+				}
+			}
+			catch (Throwable ex) {
+				stage = CompletableFuture.failedFuture(ex);
+			}
+			finally {
+				restore(previous);
+			}
+			stage.whenComplete(this::attemptCompleted);
+		}
+
+		private void attemptCompleted(T result, Throwable throwable) {
+			if (throwable == null) {
+				try {
+					for (int i = this.listeners.length; i-- > 0;) {
+						onSuccess(this.listeners[i], result);
+					}
+					complete(result, null);
+					return;
+				}
+				catch (Throwable ex) {
+					throwable = ex;
+				}
+			}
+			attemptFailed(unwrap(throwable));
+		}
+
+		@SuppressWarnings("unchecked")
+		private void onSuccess(RetryListener listener, T result) {
+			listener.onSuccess(this.context, (RetryCallback<T, ?>) this.retryCallback, result);
+		}
+
+		private void attemptFailed(Throwable throwable) {
+			this.lastException = throwable;
+			try {
+				try {
+					this.retryPolicy.registerThrowable(this.context, throwable);
+				}
+				catch (Exception ex) {
+					throw new TerminatedRetryException("Could not register throwable", ex);
+				}
+				finally {
+					for (int i = this.listeners.length; i-- > 0;) {
+						this.listeners[i].onError(this.context, this.retryCallback, throwable);
+					}
+				}
+				if (!canRetry()) {
+					exhausted();
+					return;
+				}
+				this.backOffPolicy.backOff(this.backOffContext);
+				long delay = SchedulingSleeper.takeDelay();
+				if (AsyncRetryTemplate.this.logger.isDebugEnabled()) {
+					AsyncRetryTemplate.this.logger.debug("Scheduling retry in " + delay + "ms: count="
+							+ this.context.getRetryCount() + labelMessage());
+				}
+				if (delay > 0) {
+					AsyncRetryTemplate.this.scheduler.schedule(this::attempt, delay, TimeUnit.MILLISECONDS);
+				}
+				else {
+					// never recurse on the completing thread, even without a delay
+					AsyncRetryTemplate.this.scheduler.execute(this::attempt);
+				}
+			}
+			catch (Throwable ex) {
+				complete(null, ex);
+			}
+		}
+
+		private void exhausted() {
+			if (AsyncRetryTemplate.this.logger.isDebugEnabled()) {
+				AsyncRetryTemplate.this.logger
+					.debug("Retry failed last attempt: count=" + this.context.getRetryCount() + labelMessage());
+			}
+			this.context.setAttribute(RetryContext.EXHAUSTED, true);
+			boolean doRecover = !Boolean.TRUE.equals(this.context.getAttribute(RetryContext.NO_RECOVERY));
+			if (this.recoveryCallback != null && doRecover) {
+				RetryContext previous = RetrySynchronizationManager.register(this.context);
+				try {
+					T recovered = this.recoveryCallback.recover(this.context);
+					this.context.setAttribute(RetryContext.RECOVERED, true);
+					complete(recovered, null);
+				}
+				catch (Throwable ex) {
+					complete(null, ex);
+				}
+				finally {
+					restore(previous);
+				}
+				return;
+			}
+			Throwable last = this.context.getLastThrowable();
+			complete(null, (last != null) ? last : new RetryException("Retry exhausted before the first attempt"));
+		}
+
+		private void complete(T result, Throwable throwable) {
+			try {
+				this.retryPolicy.close(this.context);
+				this.context.setAttribute(RetryContext.CLOSED, true);
+				for (int i = this.listeners.length; i-- > 0;) {
+					this.listeners[i].close(this.context, this.retryCallback, this.lastException);
+				}
+			}
+			catch (Throwable ex) {
+				if (throwable == null) {
+					throwable = ex;
+				}
+			}
+			if (throwable == null) {
+				this.future.complete(result);
+			}
+			else {
+				this.future.completeExceptionally(throwable);
+			}
+		}
+
+		private boolean canRetry() {
+			return this.retryPolicy.canRetry(this.context) && !this.context.isExhaustedOnly();
+		}
+
+		private String labelMessage() {
+			String label = this.retryCallback.getLabel();
+			return (label != null) ? "; for: '" + label + "'" : "";
+		}
+
+		private void restore(RetryContext previous) {
+			if (previous != null) {
+				RetrySynchronizationManager.register(previous);
+			}
+			else {
+				RetrySynchronizationManager.clear();
+			}
+		}
+
+	}
+
+	/**
+	 * A {@link Sleeper} that records the requested period for the current thread instead
+	 * of pausing, so that it can be used as the delay of the next attempt.
+	 */
+	@SuppressWarnings("serial")
+	static final class SchedulingSleeper implements Sleeper {
+
+		private static final ThreadLocal<long[]> delay = ThreadLocal.withInitial(() -> new long[1]);
+
+		@Override
+		public void sleep(long backOffPeriod) {
+			delay.get()[0] += backOffPeriod;
+		}
+
+		static long takeDelay() {
+			long[] holder = delay.get();
+			long value = holder[0];
+			holder[0] = 0;
+			return value;
+		}
+
+	}
+
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.support;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.springframework.util.Assert;
+
+/**
+ * A map backed by a {@link ConcurrentHashMap} that holds a bounded number of values, for
+ * the caches and repositories whose keys have a high cardinality. Lookups are lock-free
+ * and updates only lock a bin of the map.
+ * <p>
+ * Once the {@link #setMaxSize(int) maximum size} is exceeded, the thread that notices
+ * trims the map to 90% of the maximum in a single pass, least recently used values first,
+ * while other threads carry on. Values that have not been used for longer than the
+ * {@link #setExpireAfterAccess(long) expiry} are dropped on that pass too, on lookups
+ * that find them, and by {@link #values()}. Values added or looked up with
+ * {@link #get(Object)} count as used, values looked up with {@link #peek(Object)} do not.
+ * <p>
+ * Null keys and values are not supported.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @since 2.0.6
+ */
+public class BoundedConcurrentMap<K, V> {
+
+	private final ConcurrentHashMap<K, Entry<V>> map = new ConcurrentHashMap<>();
+
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	private final LongAdder evictions = new LongAdder();
+
+	private volatile long nextExpiry = System.nanoTime();
+
+	private int maxSize;
+
+	private long expireAfterAccessNanos;
+
+	private BiConsumer<K, V> evictionCallback;
+
+	private Predicate<V> evictLast;
+
+	/**
+	 * @param maxSize the maximum number of values held by the map
+	 */
+	public BoundedConcurrentMap(int maxSize) {
+		setMaxSize(maxSize);
+	}
+
+	/**
+	 * The maximum number of values held by the map.
+	 * @param maxSize the maximum size
+	 */
+	public void setMaxSize(int maxSize) {
+		Assert.isTrue(maxSize > 0, "'maxSize' must be greater than zero");
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * The time in milliseconds after which a value that has not been used is evicted.
+	 * Default 0, for no expiry.
+	 * @param expireAfterAccess the expiry in milliseconds
+	 */
+	public void setExpireAfterAccess(long expireAfterAccess) {
+		Assert.isTrue(expireAfterAccess >= 0, "'expireAfterAccess' cannot be negative");
+		this.expireAfterAccessNanos = TimeUnit.MILLISECONDS.toNanos(expireAfterAccess);
+	}
+
+	/**
+	 * A callback invoked with the key and value of every evicted value, whether it was
+	 * the least recently used or had expired. Not invoked for values that are
+	 * {@link #remove(Object) removed}.
+	 * @param evictionCallback the callback
+	 */
+	public void setEvictionCallback(BiConsumer<K, V> evictionCallback) {
+		this.evictionCallback = evictionCallback;
+	}
+
+	/**
+	 * A condition for values that trimming only evicts if evicting the others is not
+	 * enough. Expiry does not spare them.
+	 * @param evictLast the condition, tested once per value on each trimming pass
+	 */
+	public void setEvictLast(Predicate<V> evictLast) {
+		this.evictLast = evictLast;
+	}
+
+	/**
+	 * Look up a value and mark it as used.
+	 * @param key the key
+	 * @return the value, or null if there is none or it has expired
+	 */
+	public V get(K key) {
+		long now = System.nanoTime();
+		Entry<V> entry = live(key, now);
+		if (entry == null) {
+			return null;
+		}
+		entry.lastAccess = now;
+		return entry.value;
+	}
+
+	/**
+	 * Look up a value without marking it as used.
+	 * @param key the key
+	 * @return the value, or null if there is none or it has expired
+	 */
+	public V peek(K key) {
+		Entry<V> entry = live(key, System.nanoTime());
+		return (entry != null) ? entry.value : null;
+	}
+
+	/**
+	 * Add or replace a value, trimming the map if needed.
+	 * @param key the key
+	 * @param value the value
+	 */
+	public void put(K key, V value) {
+		long now = System.nanoTime();
+		this.map.put(key, new Entry<>(value, now));
+		trimIfNeeded(now);
+	}
+
+	/**
+	 * Look up a value and mark it as used, adding one if there is none or it has expired.
+	 * @param key the key
+	 * @param factory creates the value to add
+	 * @return the value
+	 */
+	public V computeIfAbsent(K key, Function<K, V> factory) {
+		long now = System.nanoTime();
+		Entry<V> entry = live(key, now);
+		if (entry != null) {
+			entry.lastAccess = now;
+			return entry.value;
+		}
+		entry = this.map.computeIfAbsent(key, ignored -> new Entry<>(factory.apply(key), now));
+		trimIfNeeded(now);
+		return entry.value;
+	}
+
+	/**
+	 * Remove a value without reporting it to the eviction callback.
+	 * @param key the key
+	 */
+	public void remove(K key) {
+		this.map.remove(key);
+	}
+
+	/**
+	 * The values that have not expired, dropping the others.
+	 * @return a snapshot of the values
+	 */
+	public List<V> values() {
+		long now = System.nanoTime();
+		List<V> values = new ArrayList<>(this.map.size());
+		for (Map.Entry<K, Entry<V>> candidate : this.map.entrySet()) {
+			if (isExpired(candidate.getValue(), now)) {
+				evict(candidate.getKey(), candidate.getValue());
+			}
+			else {
+				values.add(candidate.getValue().value);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * The number of values currently held, including any that have expired but have not
+	 * been evicted yet.
+	 * @return the number of values
+	 */
+	public int size() {
+		return this.map.size();
+	}
+
+	/**
+	 * The number of values evicted because the map was full or they had expired.
+	 * @return the eviction count
+	 */
+	public long getEvictionCount() {
+		return this.evictions.sum();
+	}
+
+	private Entry<V> live(K key, long now) {
+		Entry<V> entry = this.map.get(key);
+		if (entry != null && isExpired(entry, now)) {
+			evict(key, entry);
+			return null;
+		}
+		return entry;
+	}
+
+	private void trimIfNeeded(long now) {
+		if (this.map.size() > this.maxSize || (this.expireAfterAccessNanos > 0 && now - this.nextExpiry >= 0)) {
+			trim(now);
+		}
+	}
+
+	private void trim(long now) {
+		if (!this.evictionLock.tryLock()) {
+			// someone else is trimming already
+			return;
+		}
+		try {
+			List<Candidate<K, V>> live = new ArrayList<>(this.map.size());
+			for (Map.Entry<K, Entry<V>> candidate : this.map.entrySet()) {
+				if (isExpired(candidate.getValue(), now)) {
+					evict(candidate.getKey(), candidate.getValue());
+				}
+				else {
+					live.add(new Candidate<>(candidate.getKey(), candidate.getValue(),
+							this.evictLast != null && this.evictLast.test(candidate.getValue().value)));
+				}
+			}
+			this.nextExpiry = now + this.expireAfterAccessNanos;
+			int excess = live.size() - this.maxSize;
+			if (excess > 0) {
+				// leave some headroom so that the next few additions do not trim again
+				excess += this.maxSize / 10;
+				live.sort(Comparator.comparing((Candidate<K, V> candidate) -> candidate.last)
+					.thenComparingLong(candidate -> candidate.lastAccess));
+				for (int i = 0; i < excess && i < live.size(); i++) {
+					evict(live.get(i).key, live.get(i).entry);
+				}
+			}
+		}
+		finally {
+			this.evictionLock.unlock();
+		}
+	}
+
+	private void evict(K key, Entry<V> entry) {
+		// only if it has not been replaced in the meantime
+		if (this.map.remove(key, entry)) {
+			this.evictions.increment();
+			if (this.evictionCallback != null) {
+				this.evictionCallback.accept(key, entry.value);
+			}
+		}
+	}
+
+	private boolean isExpired(Entry<V> entry, long now) {
+		return this.expireAfterAccessNanos > 0 && now - entry.lastAccess > this.expireAfterAccessNanos;
+	}
+
+	private static final class Entry<V> {
+
+		private final V value;
+
+		private volatile long lastAccess;
+
+		Entry(V value, long lastAccess) {
+			this.value = value;
+			this.lastAccess = lastAccess;
+		}
+
+	}
+
+	/**
+	 * An entry considered for eviction, with its access time and condition frozen so that
+	 * concurrent reads cannot change the order while sorting.
+	 */
+	private static final class Candidate<K, V> {
+
+		private final K key;
+
+		private final Entry<V> entry;
+
+		private final long lastAccess;
+
+		private final boolean last;
+
+		Candidate(K key, Entry<V> entry, boolean last) {
+			this.key = key;
+			this.entry = entry;
+			this.lastAccess = entry.lastAccess;
+			this.last = last;
+		}
+
+	}
+
+}
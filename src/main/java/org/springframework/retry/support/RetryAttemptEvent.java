@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.support;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import org.springframework.retry.RetryContext;
+
+/**
+ * Flight recorder event spanning one invocation of a retry callback.
+ *
+ * @since 2.0.6
+ */
+@Name("org.springframework.retry.Attempt")
+@Label("Retry Attempt")
+@Description("An attempt of a retry callback")
+final class RetryAttemptEvent extends RetryEvent {
+
+	@Label("Exception")
+	Class<?> exception;
+
+	@Override
+	void populate(RetryContext context, Throwable throwable) {
+		// called before the failure is registered, so the count is of previous attempts
+		this.attempt = context.getRetryCount() + 1;
+		this.exception = throwable != null ? throwable.getClass() : null;
+	}
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.support;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import org.springframework.retry.RetryContext;
+
+/**
+ * Flight recorder event spanning the back off after a failed attempt.
+ *
+ * @since 2.0.6
+ */
+@Name("org.springframework.retry.BackOff")
+@Label("Retry Back Off")
+@Description("A back off between two attempts of a retry callback")
+final class RetryBackOffEvent extends RetryEvent {
+
+	@Label("Back Off Policy")
+	Class<?> policy;
+
+	@Label("Interrupted")
+	boolean interrupted;
+
+	RetryBackOffEvent(Object policy) {
+		this.policy = policy.getClass();
+	}
+
+	@Override
+	void populate(RetryContext context, Throwable throwable) {
+		this.attempt = context.getRetryCount();
+		this.interrupted = throwable != null;
+	}
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.support;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+
+/**
+ * Base class for the Java Flight Recorder events emitted by {@link RetryTemplate}. Events
+ * are only populated and committed when a recording has enabled them, so they cost next
+ * to nothing when the flight recorder is not in use. The template only reaches them
+ * through {@link RetryEvents}, which does not create any when the flight recorder is not
+ * available.
+ *
+ * @since 2.0.6
+ */
+@Category("Spring Retry")
+@StackTrace(false)
+abstract class RetryEvent extends jdk.jfr.Event {
+
+	@Label("Name")
+	String name;
+
+	@Label("Attempt")
+	int attempt;
+
+	/**
+	 * Populate and commit the event if it is enabled.
+	 * @param context the current retry context
+	 * @param callback the retry callback
+	 * @param throwable the exception to record, or null
+	 */
+	void record(RetryContext context, RetryCallback<?, ?> callback, Throwable throwable) {
+		if (shouldCommit()) {
+			Object name = context.getAttribute(RetryContext.NAME);
+			this.name = name != null ? name.toString() : callback.getLabel();
+			populate(context, throwable);
+			commit();
+		}
+	}
+
+	abstract void populate(RetryContext context, Throwable throwable);
+
+}
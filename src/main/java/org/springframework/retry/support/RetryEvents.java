@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.support;
+
+import jdk.jfr.FlightRecorder;
+
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+
+/**
+ * Entry point of {@link RetryTemplate} to its flight recorder events. Events are typed as
+ * {@link Object} here so that the template does not link against {@code jdk.jfr}, which
+ * is optional: when the module is missing or the JVM does not support the flight
+ * recorder, no event is ever created.
+ *
+ * @since 2.0.6
+ */
+final class RetryEvents {
+
+	/**
+	 * Whether the flight recorder is available in this JVM, checked once.
+	 */
+	static final boolean AVAILABLE = isAvailable();
+
+	private RetryEvents() {
+	}
+
+	/**
+	 * Begin an event for an attempt.
+	 * @return the event, or null if the flight recorder is not available
+	 */
+	static Object beginAttempt() {
+		if (!AVAILABLE) {
+			return null;
+		}
+		RetryAttemptEvent event = new RetryAttemptEvent();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Begin an event for a back off.
+	 * @param policy the back off policy
+	 * @return the event, or null if the flight recorder is not available
+	 */
+	static Object beginBackOff(Object policy) {
+		if (!AVAILABLE) {
+			return null;
+		}
+		RetryBackOffEvent event = new RetryBackOffEvent(policy);
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Begin an event for the end of the retries.
+	 * @return the event, or null if the flight recorder is not available
+	 */
+	static Object beginExhausted() {
+		if (!AVAILABLE) {
+			return null;
+		}
+		RetryExhaustedEvent event = new RetryExhaustedEvent();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * End an event, committing it if a recording has enabled it.
+	 * @param event the event, or null
+	 * @param context the current retry context
+	 * @param callback the retry callback
+	 * @param throwable the exception to record, or null
+	 */
+	static void end(Object event, RetryContext context, RetryCallback<?, ?> callback, Throwable throwable) {
+		if (event != null) {
+			((RetryEvent) event).record(context, callback, throwable);
+		}
+	}
+
+	private static boolean isAvailable() {
+		try {
+			return FlightRecorder.isAvailable();
+		}
+		catch (LinkageError ex) {
+			// no jdk.jfr module in this runtime
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.support;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import org.springframework.retry.RetryContext;
+
+/**
+ * Flight recorder event emitted when the retries are exhausted, spanning the recovery if
+ * there is one.
+ *
+ * @since 2.0.6
+ */
+@Name("org.springframework.retry.Exhausted")
+@Label("Retry Exhausted")
+@Description("Retries exhausted, including the recovery if any")
+final class RetryExhaustedEvent extends RetryEvent {
+
+	@Label("Last Exception")
+	Class<?> lastException;
+
+	@Label("Recovered")
+	boolean recovered;
+
+	@Override
+	void populate(RetryContext context, Throwable throwable) {
+		this.attempt = context.getRetryCount();
+		Throwable last = context.getLastThrowable();
+		this.lastException = last != null ? last.getClass() : null;
+		this.recovered = context.hasAttribute(RetryContext.RECOVERED);
+	}
+
+}
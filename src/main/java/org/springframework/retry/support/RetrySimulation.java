@@ -17,19 +17,40 @@
 package org.springframework.retry.support;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.springframework.retry.stats.LatencyHistogram;
+
 /**
- * The results of a simulation.
+ * The results of a simulation: the distribution of the individual sleeps, the
+ * distribution of the total sleep of each sequence, and the sequence that slept the
+ * longest.
+ * <p>
+ * The results of a parallel simulation are recorded in fixed-size {@link LatencyHistogram
+ * histograms} instead of keeping every sleep, so their percentiles are rounded up to
+ * within 0.4% (sleeps below 512 ms are exact).
  */
 public class RetrySimulation {
 
-	private final List<SleepSequence> sleepSequences = new ArrayList<>();
+	private static final double[] PERCENTILES = { 10, 20, 30, 40, 50, 60, 70, 80, 90 };
+
+	private final Distribution sleeps;
+
+	private final Distribution totalSleeps;
 
-	private final List<Long> sleepHistogram = new ArrayList<>();
+	private SleepSequence longestTotalSleepSequence;
+
+	private long sequenceCount;
 
 	public RetrySimulation() {
+		this(false);
+	}
+
+	RetrySimulation(boolean sketch) {
+		this.sleeps = sketch ? new SketchDistribution() : new ExactDistribution();
+		this.totalSleeps = sketch ? new SketchDistribution() : new ExactDistribution();
 	}
 
 	/**
@@ -37,8 +58,44 @@ public class RetrySimulation {
 	 * @param sleeps the times to be created as a {@link SleepSequence}
 	 */
 	public void addSequence(List<Long> sleeps) {
-		sleepHistogram.addAll(sleeps);
-		sleepSequences.add(new SleepSequence(sleeps));
+		long[] values = new long[sleeps.size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = sleeps.get(i);
+		}
+		addSequence(values, values.length);
+	}
+
+	void addSequence(long[] sleeps, int count) {
+		long totalSleep = 0;
+		for (int i = 0; i < count; i++) {
+			this.sleeps.add(sleeps[i]);
+			totalSleep += sleeps[i];
+		}
+		this.totalSleeps.add(totalSleep);
+		this.sequenceCount++;
+		if (this.longestTotalSleepSequence == null || totalSleep > this.longestTotalSleepSequence.getTotalSleep()) {
+			List<Long> sequence = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				sequence.add(sleeps[i]);
+			}
+			this.longestTotalSleepSequence = new SleepSequence(sequence);
+		}
+	}
+
+	/**
+	 * Add the results of another simulation to this one. On a tie the longest sequence of
+	 * this simulation is kept.
+	 * @param other the simulation to merge into this one
+	 */
+	void merge(RetrySimulation other) {
+		this.sleeps.merge(other.sleeps);
+		this.totalSleeps.merge(other.totalSleeps);
+		this.sequenceCount += other.sequenceCount;
+		SleepSequence longest = other.longestTotalSleepSequence;
+		if (longest != null && (this.longestTotalSleepSequence == null
+				|| longest.getTotalSleep() > this.longestTotalSleepSequence.getTotalSleep())) {
+			this.longestTotalSleepSequence = longest;
+		}
 	}
 
 	/**
@@ -46,35 +103,59 @@ public class RetrySimulation {
 	 * all simulations.
 	 */
 	public List<Double> getPercentiles() {
-		List<Double> res = new ArrayList<>();
-		for (double percentile : new double[] { 10, 20, 30, 40, 50, 60, 70, 80, 90 }) {
-			res.add(getPercentile(percentile / 100));
-		}
-		return res;
+		return percentiles(this.sleeps);
 	}
 
+	/**
+	 * The sleep value at the given percentile, interpolated between the two nearest
+	 * sleeps.
+	 * @param p the percentile, between 0 and 1
+	 * @return the sleep at that percentile, or 0 if nothing slept
+	 */
 	public double getPercentile(double p) {
-		Collections.sort(sleepHistogram);
-		int size = sleepHistogram.size();
-		double pos = p * (size - 1);
-		int i0 = (int) pos;
-		int i1 = i0 + 1;
-		double weight = pos - i0;
-		return sleepHistogram.get(i0) * (1 - weight) + sleepHistogram.get(i1) * weight;
+		return this.sleeps.getPercentile(p);
+	}
+
+	/**
+	 * @return the 10th to 90th percentiles of the total time slept by a sequence.
+	 * @since 2.0.6
+	 */
+	public List<Double> getTotalSleepPercentiles() {
+		return percentiles(this.totalSleeps);
+	}
 
+	/**
+	 * The total time slept by a sequence at the given percentile, that is the delay the
+	 * back offs add to a call that fails every attempt.
+	 * @param p the percentile, between 0 and 1
+	 * @return the total sleep at that percentile, or 0 if no sequence was simulated
+	 * @since 2.0.6
+	 */
+	public double getTotalSleepPercentile(double p) {
+		return this.totalSleeps.getPercentile(p);
+	}
+
+	/**
+	 * @return the number of sequences simulated.
+	 * @since 2.0.6
+	 */
+	public long getSequenceCount() {
+		return this.sequenceCount;
 	}
 
 	/**
 	 * @return the longest total time slept by a retry sequence.
 	 */
 	public SleepSequence getLongestTotalSleepSequence() {
-		SleepSequence longest = null;
-		for (SleepSequence sequence : sleepSequences) {
-			if (longest == null || sequence.getTotalSleep() > longest.getTotalSleep()) {
-				longest = sequence;
-			}
+		return this.longestTotalSleepSequence;
+	}
+
+	private static List<Double> percentiles(Distribution distribution) {
+		List<Double> res = new ArrayList<>();
+		for (double percentile : PERCENTILES) {
+			res.add(distribution.getPercentile(percentile / 100));
 		}
-		return longest;
+		return res;
 	}
 
 	public static class SleepSequence {
@@ -87,7 +168,7 @@ public class RetrySimulation {
 
 		public SleepSequence(List<Long> sleeps) {
 			this.sleeps = sleeps;
-			this.longestSleep = Collections.max(sleeps);
+			this.longestSleep = sleeps.isEmpty() ? 0 : Collections.max(sleeps);
 			long totalSleep = 0;
 			for (Long sleep : sleeps) {
 				totalSleep += sleep;
@@ -116,4 +197,96 @@ public class RetrySimulation {
 
 	}
 
+	private interface Distribution {
+
+		void add(long value);
+
+		void merge(Distribution other);
+
+		double getPercentile(double p);
+
+	}
+
+	/**
+	 * Keeps every value in a primitive array, sorted once when a percentile is first
+	 * requested after an addition.
+	 */
+	private static final class ExactDistribution implements Distribution {
+
+		private long[] values = new long[64];
+
+		private int size;
+
+		private boolean sorted = true;
+
+		@Override
+		public void add(long value) {
+			if (this.size == this.values.length) {
+				this.values = Arrays.copyOf(this.values, this.size * 2);
+			}
+			this.values[this.size++] = value;
+			this.sorted = false;
+		}
+
+		@Override
+		public void merge(Distribution other) {
+			ExactDistribution exact = (ExactDistribution) other;
+			for (int i = 0; i < exact.size; i++) {
+				add(exact.values[i]);
+			}
+		}
+
+		@Override
+		public double getPercentile(double p) {
+			if (this.size == 0) {
+				return 0;
+			}
+			if (!this.sorted) {
+				Arrays.sort(this.values, 0, this.size);
+				this.sorted = true;
+			}
+			double pos = p * (this.size - 1);
+			int i0 = (int) pos;
+			int i1 = Math.min(i0 + 1, this.size - 1);
+			double weight = pos - i0;
+			return this.values[i0] * (1 - weight) + this.values[i1] * weight;
+		}
+
+	}
+
+	/**
+	 * Interpolates between the ranks of a {@link LatencyHistogram}, like the exact
+	 * distribution does between the values it keeps.
+	 */
+	private static final class SketchDistribution implements Distribution {
+
+		private static final int PRECISION = 8;
+
+		private final LatencyHistogram histogram = new LatencyHistogram(PRECISION);
+
+		@Override
+		public void add(long value) {
+			this.histogram.record(value);
+		}
+
+		@Override
+		public void merge(Distribution other) {
+			this.histogram.merge(((SketchDistribution) other).histogram);
+		}
+
+		@Override
+		public double getPercentile(double p) {
+			long count = this.histogram.getCount();
+			if (count == 0) {
+				return 0;
+			}
+			double pos = p * (count - 1);
+			long rank0 = (long) pos;
+			long rank1 = Math.min(rank0 + 1, count - 1);
+			double weight = pos - rank0;
+			return this.histogram.getValueAtRank(rank0) * (1 - weight) + this.histogram.getValueAtRank(rank1) * weight;
+		}
+
+	}
+
 }
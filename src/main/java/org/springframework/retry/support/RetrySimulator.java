@@ -17,11 +17,15 @@
 package org.springframework.retry.support;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
-import org.springframework.retry.RetryCallback;
 import org.springframework.retry.RetryContext;
 import org.springframework.retry.RetryPolicy;
+import org.springframework.retry.backoff.BackOffContext;
+import org.springframework.retry.backoff.BackOffPolicy;
 import org.springframework.retry.backoff.Sleeper;
 import org.springframework.retry.backoff.SleepingBackOffPolicy;
 
@@ -48,10 +52,17 @@ import org.springframework.retry.backoff.SleepingBackOffPolicy;
  */
 public class RetrySimulator {
 
+	/**
+	 * The number of sequences below which a parallel simulation is not split further.
+	 */
+	private static final int SEQUENCES_PER_TASK = 8192;
+
 	private final SleepingBackOffPolicy<?> backOffPolicy;
 
 	private final RetryPolicy retryPolicy;
 
+	private final FailingRetryException failure = new FailingRetryException();
+
 	public RetrySimulator(SleepingBackOffPolicy<?> backOffPolicy, RetryPolicy retryPolicy) {
 		this.backOffPolicy = backOffPolicy;
 		this.retryPolicy = retryPolicy;
@@ -64,44 +75,62 @@ public class RetrySimulator {
 	 */
 	public RetrySimulation executeSimulation(int numSimulations) {
 		RetrySimulation simulation = new RetrySimulation();
-
-		for (int i = 0; i < numSimulations; i++) {
-			simulation.addSequence(executeSingleSimulation());
-		}
+		simulate(simulation, numSimulations);
 		return simulation;
 	}
 
+	/**
+	 * Execute the simulator for a given number of iterations, split across the common
+	 * {@link ForkJoinPool}. The results are recorded in quantile sketches, so memory use
+	 * does not grow with the number of simulations and percentiles are approximate (see
+	 * {@link RetrySimulation}). The retry and back off policies must be thread safe, as
+	 * the stock ones are.
+	 * @param numSimulations Number of simulations to run
+	 * @return the outcome of all simulations
+	 * @since 2.0.6
+	 */
+	public RetrySimulation executeParallelSimulation(int numSimulations) {
+		return ForkJoinPool.commonPool().invoke(new SimulationTask(numSimulations));
+	}
+
 	/**
 	 * Execute a single simulation
 	 * @return The sleeps which occurred within the single simulation.
 	 */
 	public List<Long> executeSingleSimulation() {
 		StealingSleeper stealingSleeper = new StealingSleeper();
-		SleepingBackOffPolicy<?> stealingBackoff = backOffPolicy.withSleeper(stealingSleeper);
-
-		RetryTemplate template = new RetryTemplate();
-		template.setBackOffPolicy(stealingBackoff);
-		template.setRetryPolicy(retryPolicy);
-
-		try {
-			template.execute(new FailingRetryCallback());
-		}
-		catch (FailingRetryException e) {
-
-		}
-		catch (Throwable e) {
-			throw new RuntimeException("Unexpected exception", e);
-		}
-
+		executeSequence(this.backOffPolicy.withSleeper(stealingSleeper));
 		return stealingSleeper.getSleeps();
 	}
 
-	static class FailingRetryCallback implements RetryCallback<Object, Exception> {
-
-		public Object doWithRetry(RetryContext context) throws Exception {
-			throw new FailingRetryException();
+	private void simulate(RetrySimulation simulation, int numSimulations) {
+		StealingSleeper stealingSleeper = new StealingSleeper();
+		BackOffPolicy stealingBackoff = this.backOffPolicy.withSleeper(stealingSleeper);
+		for (int i = 0; i < numSimulations; i++) {
+			stealingSleeper.reset();
+			executeSequence(stealingBackoff);
+			simulation.addSequence(stealingSleeper.sleeps, stealingSleeper.count);
 		}
+	}
 
+	/**
+	 * Drive the policies as a {@link RetryTemplate} would for a callback that always
+	 * fails, without the template itself: there is nothing to intercept or recover.
+	 */
+	private void executeSequence(BackOffPolicy backOff) {
+		RetryContext context = this.retryPolicy.open(null);
+		try {
+			BackOffContext backOffContext = backOff.start(context);
+			while (this.retryPolicy.canRetry(context) && !context.isExhaustedOnly()) {
+				this.retryPolicy.registerThrowable(context, this.failure);
+				if (this.retryPolicy.canRetry(context) && !context.isExhaustedOnly()) {
+					backOff.backOff(backOffContext);
+				}
+			}
+		}
+		finally {
+			this.retryPolicy.close(context);
+		}
 	}
 
 	@SuppressWarnings("serial")
@@ -112,14 +141,54 @@ public class RetrySimulator {
 	@SuppressWarnings("serial")
 	static class StealingSleeper implements Sleeper {
 
-		private final List<Long> sleeps = new ArrayList<>();
+		private long[] sleeps = new long[16];
+
+		private int count;
 
 		public void sleep(long backOffPeriod) throws InterruptedException {
-			sleeps.add(backOffPeriod);
+			if (count == sleeps.length) {
+				sleeps = Arrays.copyOf(sleeps, count * 2);
+			}
+			sleeps[count++] = backOffPeriod;
 		}
 
 		public List<Long> getSleeps() {
-			return sleeps;
+			List<Long> list = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				list.add(sleeps[i]);
+			}
+			return list;
+		}
+
+		void reset() {
+			count = 0;
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private class SimulationTask extends RecursiveTask<RetrySimulation> {
+
+		private final int numSimulations;
+
+		SimulationTask(int numSimulations) {
+			this.numSimulations = numSimulations;
+		}
+
+		@Override
+		protected RetrySimulation compute() {
+			if (this.numSimulations <= SEQUENCES_PER_TASK) {
+				RetrySimulation simulation = new RetrySimulation(true);
+				simulate(simulation, this.numSimulations);
+				return simulation;
+			}
+			int half = this.numSimulations / 2;
+			SimulationTask left = new SimulationTask(half);
+			left.fork();
+			RetrySimulation right = new SimulationTask(this.numSimulations - half).compute();
+			RetrySimulation simulation = left.join();
+			simulation.merge(right);
+			return simulation;
 		}
 
 	}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The results of a {@link RetryStormSimulator} run: totals over the whole run and a
+ * timeline of fixed-size windows.
+ *
+ * @since 2.0.6
+ */
+public class RetryStormSimulation {
+
+	private final List<Window> timeline;
+
+	private final long duration;
+
+	private final long recoveryTime;
+
+	RetryStormSimulation(List<Window> timeline, long duration, long outageStart, long outageEnd) {
+		this.timeline = Collections.unmodifiableList(timeline);
+		this.duration = duration;
+		this.recoveryTime = recoveryTime(outageStart, outageEnd);
+	}
+
+	/**
+	 * @return the windows of the simulation, in order
+	 */
+	public List<Window> getTimeline() {
+		return this.timeline;
+	}
+
+	/**
+	 * @return the number of calls started by the clients
+	 */
+	public long getCalls() {
+		return sum(Counter.CALLS);
+	}
+
+	/**
+	 * @return the number of attempts sent downstream, including the first attempt of each
+	 * call
+	 */
+	public long getAttempts() {
+		return sum(Counter.ATTEMPTS);
+	}
+
+	/**
+	 * @return the number of calls that succeeded
+	 */
+	public long getSuccesses() {
+		return sum(Counter.SUCCESSES);
+	}
+
+	/**
+	 * @return the number of calls that failed after exhausting their retries
+	 */
+	public long getFailures() {
+		return sum(Counter.FAILURES);
+	}
+
+	/**
+	 * The offered load amplification: the number of attempts the downstream service
+	 * received per call made by the clients.
+	 * @return the amplification, 1 if no call was retried
+	 */
+	public double getAmplification() {
+		long calls = getCalls();
+		return calls == 0 ? 0 : (double) getAttempts() / calls;
+	}
+
+	/**
+	 * @return the number of successful calls per second over the whole simulation
+	 */
+	public double getGoodput() {
+		return getSuccesses() * 1000.0 / this.duration;
+	}
+
+	/**
+	 * The time between the end of the downstream outage and the start of the first window
+	 * whose goodput is back to 90% of the goodput before the outage (the first window is
+	 * not counted, as it includes the ramp up).
+	 * @return the recovery time in milliseconds, 0 if there was no outage, or -1 if the
+	 * goodput did not recover before the end of the simulation or if the outage started
+	 * before the end of the second window, leaving no goodput to compare with
+	 */
+	public long getRecoveryTime() {
+		return this.recoveryTime;
+	}
+
+	private long recoveryTime(long outageStart, long outageEnd) {
+		if (outageStart < 0) {
+			return 0;
+		}
+		double baseline = 0;
+		int windows = 0;
+		for (Window window : this.timeline.subList(Math.min(1, this.timeline.size()), this.timeline.size())) {
+			if (window.getEnd() <= outageStart) {
+				baseline += window.getGoodput();
+				windows++;
+			}
+		}
+		if (windows == 0) {
+			return -1;
+		}
+		baseline /= windows;
+		for (Window window : this.timeline) {
+			if (window.getStart() >= outageEnd && window.getGoodput() >= 0.9 * baseline) {
+				return window.getStart() - outageEnd;
+			}
+		}
+		return -1;
+	}
+
+	private long sum(Counter counter) {
+		long sum = 0;
+		for (Window window : this.timeline) {
+			sum += window.get(counter);
+		}
+		return sum;
+	}
+
+	@Override
+	public String toString() {
+		return "RetryStormSimulation [calls=" + getCalls() + ", attempts=" + getAttempts() + ", successes="
+				+ getSuccesses() + ", failures=" + getFailures() + ", amplification=" + getAmplification()
+				+ ", goodput=" + getGoodput() + ", recoveryTime=" + getRecoveryTime() + "]";
+	}
+
+	static List<Window> windows(long duration, long size) {
+		List<Window> windows = new ArrayList<>();
+		for (long start = 0; start < duration; start += size) {
+			windows.add(new Window(start, Math.min(start + size, duration)));
+		}
+		return windows;
+	}
+
+	/**
+	 * The quantities counted in each window.
+	 */
+	enum Counter {
+
+		CALLS, ATTEMPTS, SUCCESSES, FAILURES
+
+	}
+
+	/**
+	 * The calls, attempts and outcomes in a window of the simulation. Calls and attempts
+	 * are counted in the window they start in, outcomes in the window they occur in.
+	 */
+	public static class Window {
+
+		private final long start;
+
+		private final long end;
+
+		private final long[] counters = new long[Counter.values().length];
+
+		Window(long start, long end) {
+			this.start = start;
+			this.end = end;
+		}
+
+		public long getStart() {
+			return this.start;
+		}
+
+		public long getEnd() {
+			return this.end;
+		}
+
+		public long getCalls() {
+			return get(Counter.CALLS);
+		}
+
+		public long getAttempts() {
+			return get(Counter.ATTEMPTS);
+		}
+
+		public long getSuccesses() {
+			return get(Counter.SUCCESSES);
+		}
+
+		public long getFailures() {
+			return get(Counter.FAILURES);
+		}
+
+		/**
+		 * @return the attempts sent in this window per call started in it
+		 */
+		public double getAmplification() {
+			long calls = getCalls();
+			return calls == 0 ? 0 : (double) getAttempts() / calls;
+		}
+
+		/**
+		 * @return the successful calls per second in this window
+		 */
+		public double getGoodput() {
+			return getSuccesses() * 1000.0 / (this.end - this.start);
+		}
+
+		long get(Counter counter) {
+			return this.counters[counter.ordinal()];
+		}
+
+		void increment(Counter counter) {
+			this.counters[counter.ordinal()]++;
+		}
+
+		@Override
+		public String toString() {
+			return "Window [start=" + this.start + ", calls=" + getCalls() + ", attempts=" + getAttempts()
+					+ ", successes=" + getSuccesses() + ", failures=" + getFailures() + "]";
+		}
+
+	}
+
+}
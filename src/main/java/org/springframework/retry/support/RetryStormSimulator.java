@@ -0,0 +1,385 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.support;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryPolicy;
+import org.springframework.retry.backoff.BackOffContext;
+import org.springframework.retry.backoff.BackOffPolicy;
+import org.springframework.retry.backoff.Sleeper;
+import org.springframework.retry.backoff.SleepingBackOffPolicy;
+import org.springframework.util.Assert;
+
+/**
+ * A discrete-event simulation of a fleet of clients retrying calls to a shared
+ * {@link SimulatedDownstream downstream service}, to show how a retry and back off policy
+ * pair amplifies the load on a struggling dependency and how long the system takes to
+ * recover from an outage.
+ * <p>
+ * Each client starts calls at random (Poisson) intervals, whether or not its previous
+ * calls have completed. Every call opens its own retry context, as stateless retry does,
+ * and its back offs are scheduled on a virtual clock instead of sleeping, so a simulation
+ * runs offline and far faster than real time. Policies that read the wall clock (such as
+ * {@link org.springframework.retry.policy.TimeoutRetryPolicy}) see real time, not the
+ * virtual clock.
+ *
+ * @since 2.0.6
+ * @see RetrySimulator
+ */
+public class RetryStormSimulator {
+
+	private final SleepingBackOffPolicy<?> backOffPolicy;
+
+	private final RetryPolicy retryPolicy;
+
+	private final SimulatedDownstream downstream;
+
+	private int clients = 100;
+
+	private long requestInterval = 1000;
+
+	private long duration = 60000;
+
+	private long window = 1000;
+
+	private long seed = 0;
+
+	public RetryStormSimulator(SleepingBackOffPolicy<?> backOffPolicy, RetryPolicy retryPolicy,
+			SimulatedDownstream downstream) {
+		this.backOffPolicy = backOffPolicy;
+		this.retryPolicy = retryPolicy;
+		this.downstream = downstream;
+	}
+
+	/**
+	 * The number of clients. Default 100.
+	 * @param clients the number of clients
+	 */
+	public void setClients(int clients) {
+		Assert.isTrue(clients > 0, "'clients' must be positive");
+		this.clients = clients;
+	}
+
+	/**
+	 * The mean time in milliseconds between two calls of a client. Default 1000.
+	 * @param requestInterval the mean request interval
+	 */
+	public void setRequestInterval(long requestInterval) {
+		Assert.isTrue(requestInterval > 0, "'requestInterval' must be positive");
+		this.requestInterval = requestInterval;
+	}
+
+	/**
+	 * The simulated time in milliseconds. Default 60000.
+	 * @param duration the duration of the simulation
+	 */
+	public void setDuration(long duration) {
+		Assert.isTrue(duration > 0, "'duration' must be positive");
+		this.duration = duration;
+	}
+
+	/**
+	 * The size in milliseconds of the windows of the timeline. Default 1000.
+	 * @param window the window size
+	 */
+	public void setWindow(long window) {
+		Assert.isTrue(window > 0, "'window' must be positive");
+		this.window = window;
+	}
+
+	/**
+	 * The seed for the request intervals and the downstream errors, so that runs can be
+	 * repeated. Random back off policies use their own random numbers.
+	 * @param seed the seed
+	 */
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
+
+	/**
+	 * Run the simulation.
+	 * @return the outcome of the simulation
+	 */
+	public RetryStormSimulation executeSimulation() {
+		List<RetryStormSimulation.Window> timeline = RetryStormSimulation.windows(this.duration, this.window);
+		new Run(timeline).run();
+		return new RetryStormSimulation(timeline, this.duration, this.downstream.getOutageStart(),
+				this.downstream.getOutageEnd());
+	}
+
+	/**
+	 * A failure of the downstream service.
+	 */
+	@SuppressWarnings("serial")
+	public static class DownstreamException extends RuntimeException {
+
+		DownstreamException(String message) {
+			super(message, null, false, false);
+		}
+
+	}
+
+	/**
+	 * An attempt the caller gave up on, because the downstream service did not complete
+	 * it in time.
+	 */
+	@SuppressWarnings("serial")
+	public static class DownstreamTimeoutException extends DownstreamException {
+
+		DownstreamTimeoutException() {
+			super("Timed out");
+		}
+
+	}
+
+	private enum EventType {
+
+		CALL, ATTEMPT, COMPLETION, TIMEOUT
+
+	}
+
+	private static final class Event implements Comparable<Event> {
+
+		private final double time;
+
+		private final long sequence;
+
+		private final EventType type;
+
+		private final Object target;
+
+		private Event(double time, long sequence, EventType type, Object target) {
+			this.time = time;
+			this.sequence = sequence;
+			this.type = type;
+			this.target = target;
+		}
+
+		@Override
+		public int compareTo(Event other) {
+			int result = Double.compare(this.time, other.time);
+			return result != 0 ? result : Long.compare(this.sequence, other.sequence);
+		}
+
+	}
+
+	private static final class Call {
+
+		private final RetryContext context;
+
+		private final BackOffContext backOffContext;
+
+		private Call(RetryContext context, BackOffContext backOffContext) {
+			this.context = context;
+			this.backOffContext = backOffContext;
+		}
+
+	}
+
+	private static final class Attempt {
+
+		private final Call call;
+
+		private boolean settled;
+
+		private boolean failing;
+
+		private Attempt(Call call) {
+			this.call = call;
+		}
+
+	}
+
+	private static final class VirtualSleeper implements Sleeper {
+
+		private static final long serialVersionUID = 1L;
+
+		private long slept;
+
+		@Override
+		public void sleep(long backOffPeriod) {
+			this.slept += backOffPeriod;
+		}
+
+	}
+
+	/**
+	 * The state of one run of the simulation.
+	 */
+	private final class Run {
+
+		private final DownstreamException error = new DownstreamException("Failed");
+
+		private final DownstreamException rejected = new DownstreamException("Rejected");
+
+		private final DownstreamTimeoutException timedOut = new DownstreamTimeoutException();
+
+		private final PriorityQueue<Event> events = new PriorityQueue<>();
+
+		private final ArrayDeque<Attempt> queue = new ArrayDeque<>();
+
+		private final SplittableRandom arrivals = new SplittableRandom(RetryStormSimulator.this.seed);
+
+		// a separate stream, so that changing the policies does not change the arrivals
+		private final SplittableRandom errors = this.arrivals.split();
+
+		private final VirtualSleeper sleeper = new VirtualSleeper();
+
+		private final BackOffPolicy backOff = RetryStormSimulator.this.backOffPolicy.withSleeper(this.sleeper);
+
+		private final List<RetryStormSimulation.Window> timeline;
+
+		private final SimulatedDownstream downstream = RetryStormSimulator.this.downstream;
+
+		private long sequence;
+
+		private double now;
+
+		private int busy;
+
+		private Run(List<RetryStormSimulation.Window> timeline) {
+			this.timeline = timeline;
+		}
+
+		void run() {
+			for (int i = 0; i < RetryStormSimulator.this.clients; i++) {
+				schedule(nextCallTime(), EventType.CALL, null);
+			}
+			while (!this.events.isEmpty()) {
+				Event event = this.events.poll();
+				if (event.time >= RetryStormSimulator.this.duration) {
+					break;
+				}
+				this.now = event.time;
+				switch (event.type) {
+					case CALL:
+						schedule(nextCallTime(), EventType.CALL, null);
+						startCall();
+						break;
+					case ATTEMPT:
+						send((Call) event.target);
+						break;
+					case COMPLETION:
+						complete((Attempt) event.target);
+						break;
+					case TIMEOUT:
+						Attempt attempt = (Attempt) event.target;
+						if (!attempt.settled) {
+							settle(attempt, this.timedOut);
+						}
+						break;
+				}
+			}
+		}
+
+		private double nextCallTime() {
+			// exponential inter-arrival times, for Poisson arrivals per client
+			return this.now - Math.log(1 - this.arrivals.nextDouble()) * RetryStormSimulator.this.requestInterval;
+		}
+
+		private void startCall() {
+			count(RetryStormSimulation.Counter.CALLS);
+			RetryContext context = RetryStormSimulator.this.retryPolicy.open(null);
+			Call call = new Call(context, this.backOff.start(context));
+			if (canRetry(call)) {
+				send(call);
+			}
+			else {
+				finish(call, false);
+			}
+		}
+
+		private void send(Call call) {
+			count(RetryStormSimulation.Counter.ATTEMPTS);
+			Attempt attempt = new Attempt(call);
+			schedule(this.now + this.downstream.getTimeout(), EventType.TIMEOUT, attempt);
+			if (this.busy < this.downstream.getConcurrency()) {
+				serve(attempt);
+			}
+			else if (this.queue.size() < this.downstream.getQueueCapacity()) {
+				this.queue.add(attempt);
+			}
+			else {
+				settle(attempt, this.rejected);
+			}
+		}
+
+		private void serve(Attempt attempt) {
+			double load = (double) (this.busy + this.queue.size()) / this.downstream.getConcurrency();
+			this.busy++;
+			attempt.failing = this.downstream.isFailing(this.now, load, this.errors.nextDouble());
+			schedule(this.now + this.downstream.getLatency(), EventType.COMPLETION, attempt);
+		}
+
+		private void complete(Attempt attempt) {
+			this.busy--;
+			if (!attempt.settled) {
+				settle(attempt, attempt.failing ? this.error : null);
+			}
+			while (!this.queue.isEmpty()) {
+				Attempt next = this.queue.poll();
+				if (!next.settled) {
+					serve(next);
+					break;
+				}
+			}
+		}
+
+		private void settle(Attempt attempt, DownstreamException failure) {
+			attempt.settled = true;
+			Call call = attempt.call;
+			if (failure == null) {
+				finish(call, true);
+				return;
+			}
+			RetryStormSimulator.this.retryPolicy.registerThrowable(call.context, failure);
+			if (canRetry(call)) {
+				this.sleeper.slept = 0;
+				this.backOff.backOff(call.backOffContext);
+				schedule(this.now + this.sleeper.slept, EventType.ATTEMPT, call);
+			}
+			else {
+				finish(call, false);
+			}
+		}
+
+		private boolean canRetry(Call call) {
+			return RetryStormSimulator.this.retryPolicy.canRetry(call.context) && !call.context.isExhaustedOnly();
+		}
+
+		private void finish(Call call, boolean success) {
+			RetryStormSimulator.this.retryPolicy.close(call.context);
+			count(success ? RetryStormSimulation.Counter.SUCCESSES : RetryStormSimulation.Counter.FAILURES);
+		}
+
+		private void count(RetryStormSimulation.Counter counter) {
+			int index = (int) (this.now / RetryStormSimulator.this.window);
+			this.timeline.get(Math.min(index, this.timeline.size() - 1)).increment(counter);
+		}
+
+		private void schedule(double time, EventType type, Object target) {
+			this.events.add(new Event(time, this.sequence++, type, target));
+		}
+
+	}
+
+}
@@ -87,6 +87,8 @@ public class RetryTemplateBuilder {
 
 	private BinaryExceptionClassifierBuilder classifierBuilder;
 
+	private boolean lazyRetryState;
+
 	/* ---------------- Configure retry policy -------------- */
 
 	/**
@@ -520,6 +522,20 @@ public class RetryTemplateBuilder {
 		return this;
 	}
 
+	/* ---------------- Execution -------------- */
+
+	/**
+	 * Defer the retry bookkeeping (back off context and maximum attempts attribute) until
+	 * the first attempt has failed, so that operations that succeed at once stay cheap.
+	 * @return this
+	 * @since 2.0.6
+	 * @see RetryTemplate#setLazyRetryState(boolean)
+	 */
+	public RetryTemplateBuilder lazyRetryState() {
+		this.lazyRetryState = true;
+		return this;
+	}
+
 	/* ---------------- Building -------------- */
 
 	/**
@@ -566,6 +582,8 @@ public class RetryTemplateBuilder {
 			retryTemplate.setListeners(this.listeners.toArray(new RetryListener[0]));
 		}
 
+		retryTemplate.setLazyRetryState(this.lazyRetryState);
+
 		return retryTemplate;
 	}
 
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.support;
+
+import java.util.function.DoubleUnaryOperator;
+
+import org.springframework.util.Assert;
+
+/**
+ * The model of a downstream service for a {@link RetryStormSimulator}. The service serves
+ * a limited number of attempts at once, each for a fixed latency; further attempts wait
+ * in a bounded queue, and are rejected when it is full. Callers give up on an attempt
+ * after a timeout, but an attempt already in service keeps its slot until it completes,
+ * as the work cannot be taken back. An attempt that times out while queued is dropped
+ * without being served.
+ * <p>
+ * The probability that a served attempt fails is a function of the load when it starts:
+ * the number of attempts in service and queued, divided by the concurrency. During an
+ * {@link #setOutage(long, long) outage} every served attempt fails.
+ *
+ * @since 2.0.6
+ */
+public class SimulatedDownstream {
+
+	private int concurrency = 100;
+
+	private long latency = 50;
+
+	private long timeout = 1000;
+
+	private int queueCapacity = Integer.MAX_VALUE;
+
+	private DoubleUnaryOperator errorRate = load -> 0;
+
+	private long outageStart = -1;
+
+	private long outageEnd = -1;
+
+	/**
+	 * The number of attempts served at once. Default 100.
+	 * @param concurrency the concurrency
+	 */
+	public void setConcurrency(int concurrency) {
+		Assert.isTrue(concurrency > 0, "'concurrency' must be positive");
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * The time in milliseconds to serve an attempt. Default 50.
+	 * @param latency the latency
+	 */
+	public void setLatency(long latency) {
+		Assert.isTrue(latency >= 0, "'latency' must not be negative");
+		this.latency = latency;
+	}
+
+	/**
+	 * The time in milliseconds after which a caller gives up on an attempt. Default 1000.
+	 * @param timeout the timeout
+	 */
+	public void setTimeout(long timeout) {
+		Assert.isTrue(timeout > 0, "'timeout' must be positive");
+		this.timeout = timeout;
+	}
+
+	/**
+	 * The number of attempts that can wait for service; further attempts are rejected.
+	 * Default unbounded.
+	 * @param queueCapacity the queue capacity
+	 */
+	public void setQueueCapacity(int queueCapacity) {
+		Assert.isTrue(queueCapacity >= 0, "'queueCapacity' must not be negative");
+		this.queueCapacity = queueCapacity;
+	}
+
+	/**
+	 * The probability, between 0 and 1, that a served attempt fails, as a function of the
+	 * load (1 is as many attempts as the concurrency). Default 0.
+	 * @param errorRate the error rate as a function of the load
+	 */
+	public void setErrorRate(DoubleUnaryOperator errorRate) {
+		Assert.notNull(errorRate, "'errorRate' cannot be null");
+		this.errorRate = errorRate;
+	}
+
+	/**
+	 * A period during which every served attempt fails.
+	 * @param start the start of the outage in milliseconds from the start of the
+	 * simulation
+	 * @param duration the duration of the outage in milliseconds
+	 */
+	public void setOutage(long start, long duration) {
+		Assert.isTrue(start >= 0 && duration > 0, "The outage must start at or after 0 and last some time");
+		this.outageStart = start;
+		this.outageEnd = start + duration;
+	}
+
+	int getConcurrency() {
+		return this.concurrency;
+	}
+
+	long getLatency() {
+		return this.latency;
+	}
+
+	long getTimeout() {
+		return this.timeout;
+	}
+
+	int getQueueCapacity() {
+		return this.queueCapacity;
+	}
+
+	long getOutageStart() {
+		return this.outageStart;
+	}
+
+	long getOutageEnd() {
+		return this.outageEnd;
+	}
+
+	boolean isFailing(double time, double load, double random) {
+		if (time >= this.outageStart && time < this.outageEnd) {
+			return true;
+		}
+		return random < this.errorRate.applyAsDouble(load);
+	}
+
+}
@@ -27,6 +27,7 @@ import org.springframework.retry.support.RetryTemplate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 /**
  * @author Aleksandr Shamukov
@@ -82,6 +83,19 @@ public class BinaryExceptionClassifierBuilderTests {
 		assertThat(classifier.classify(new RuntimeException(new InterruptedException()))).isFalse();
 	}
 
+	@Test
+	public void testFrozen() {
+		BinaryExceptionClassifier classifier = BinaryExceptionClassifier.builder()
+			.retryOn(IOException.class)
+			.traversingCauses()
+			.frozen()
+			.build();
+
+		assertThat(classifier.isFrozen()).isTrue();
+		assertThat(classifier.classify(new RuntimeException(new IOException()))).isTrue();
+		assertThatIllegalStateException().isThrownBy(() -> classifier.add(TimeoutException.class, true));
+	}
+
 	@Test
 	public void testFailOnNotationMix() {
 		assertThatIllegalArgumentException().isThrownBy(() -> BinaryExceptionClassifier.builder()
@@ -26,6 +26,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.DirectFieldAccessor;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 public class BinaryExceptionClassifierTests {
 
@@ -87,8 +88,9 @@ public class BinaryExceptionClassifierTests {
 		assertThat(
 				binaryExceptionClassifier.classify(new RuntimeException(new FooException("Foo", new BarException()))))
 			.isTrue();
+		// lookups are memoized outside the configured type map
 		assertThat(((Map<?, ?>) new DirectFieldAccessor(binaryExceptionClassifier).getPropertyValue("classified"))
-			.containsKey(FooException.class)).isTrue();
+			.containsKey(FooException.class)).isFalse();
 	}
 
 	@Test
@@ -114,6 +116,60 @@ public class BinaryExceptionClassifierTests {
 			.isFalse();
 	}
 
+	@Test
+	public void testCauseChainWithCycleIsDefault() {
+		classifier = new BinaryExceptionClassifier(
+				Collections.<Class<? extends Throwable>>singleton(IllegalStateException.class));
+		classifier.setTraverseCauses(true);
+		CyclicException first = new CyclicException();
+		CyclicException second = new CyclicException();
+		first.cause = second;
+		second.cause = first;
+		assertThat(classifier.classify(new RuntimeException(first))).isFalse();
+		CyclicException self = new CyclicException();
+		self.cause = self;
+		assertThat(classifier.classify(self)).isFalse();
+	}
+
+	@Test
+	public void testDeepCauseChain() {
+		classifier = new BinaryExceptionClassifier(
+				Collections.<Class<? extends Throwable>>singleton(IllegalStateException.class));
+		classifier.setTraverseCauses(true);
+		Throwable chain = new FooException("Foo");
+		for (int i = 0; i < 10; i++) {
+			chain = new RuntimeException(chain);
+		}
+		assertThat(classifier.classify(chain)).isTrue();
+		assertThat(classifier.classify(chain)).isTrue();
+		assertThat(classifier.classify(new RuntimeException(new RuntimeException()))).isFalse();
+	}
+
+	@Test
+	public void testFrozenRuleSetCannotChange() {
+		classifier = new BinaryExceptionClassifier(
+				Collections.<Class<? extends Throwable>>singleton(IllegalStateException.class));
+		assertThat(classifier.freeze().isFrozen()).isTrue();
+		assertThat(classifier.classify(new FooException("Foo"))).isTrue();
+		assertThatIllegalStateException().isThrownBy(() -> classifier.add(BarException.class, true));
+		assertThatIllegalStateException().isThrownBy(() -> classifier.setTypeMap(Collections.emptyMap()));
+		assertThatIllegalStateException().isThrownBy(() -> classifier.setDefaultValue(true));
+		assertThatIllegalStateException().isThrownBy(() -> classifier.setTraverseCauses(true));
+		assertThat(classifier.classify(new BarException())).isFalse();
+	}
+
+	@SuppressWarnings("serial")
+	private static class CyclicException extends RuntimeException {
+
+		private Throwable cause;
+
+		@Override
+		public synchronized Throwable getCause() {
+			return this.cause;
+		}
+
+	}
+
 	@SuppressWarnings("serial")
 	private class FooException extends IllegalStateException {
 
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.classify;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+public class PatternMatcherTests {
+
+	@Test
+	public void testStaticMatch() {
+		assertThat(PatternMatcher.match("foo", "foo")).isTrue();
+		assertThat(PatternMatcher.match("foo", "fo")).isFalse();
+		assertThat(PatternMatcher.match("f?o", "fao")).isTrue();
+		assertThat(PatternMatcher.match("*", "")).isTrue();
+		assertThat(PatternMatcher.match("f*", "f")).isTrue();
+		assertThat(PatternMatcher.match("f*o*r", "foobar")).isTrue();
+		assertThat(PatternMatcher.match("f*o*z", "foobar")).isFalse();
+		assertThat(PatternMatcher.match("*bar", "foobar")).isTrue();
+		assertThat(PatternMatcher.match("**b?r", "foobar")).isTrue();
+	}
+
+	@Test
+	public void testMostSpecificPatternWins() {
+		Map<String, String> map = new HashMap<>();
+		map.put("*", "default");
+		map.put("foo*", "foo");
+		map.put("foo.b*", "foo.b");
+		map.put("foo.bar", "exact");
+		map.put("?oo.baz", "single");
+		PatternMatcher<String> matcher = new PatternMatcher<>(map);
+		assertThat(matcher.match("foo.bar")).isEqualTo("exact");
+		assertThat(matcher.match("foo.barista")).isEqualTo("foo.b");
+		assertThat(matcher.match("foo.baz")).isEqualTo("foo.b");
+		assertThat(matcher.match("foo.qux")).isEqualTo("foo");
+		assertThat(matcher.match("zoo.baz")).isEqualTo("single");
+		assertThat(matcher.match("")).isEqualTo("default");
+	}
+
+	@Test
+	public void testNoMatch() {
+		PatternMatcher<String> matcher = new PatternMatcher<>(Map.of("foo*", "foo"), 16);
+		assertThatIllegalStateException().isThrownBy(() -> matcher.match("bar"));
+		assertThatIllegalStateException().isThrownBy(() -> matcher.match("bar"));
+	}
+
+	@Test
+	public void testSameOutcomeAsLinearScan() {
+		Random random = new Random(42);
+		for (int round = 0; round < 20; round++) {
+			Map<String, Integer> map = new HashMap<>();
+			for (int i = 0; i < 200; i++) {
+				map.put(randomString(random, true), i);
+			}
+			PatternMatcher<Integer> matcher = new PatternMatcher<>(map);
+			PatternMatcher<Integer> cached = new PatternMatcher<>(map, 8);
+			List<String> sorted = new ArrayList<>(map.keySet());
+			sorted.sort(Comparator.reverseOrder());
+			for (int i = 0; i < 500; i++) {
+				String line = randomString(random, false);
+				Integer expected = linearMatch(sorted, map, line);
+				for (PatternMatcher<Integer> candidate : List.of(matcher, cached, cached)) {
+					if (expected == null) {
+						assertThatIllegalStateException().isThrownBy(() -> candidate.match(line));
+					}
+					else {
+						assertThat(candidate.match(line)).as(line).isEqualTo(expected);
+					}
+				}
+			}
+		}
+	}
+
+	private Integer linearMatch(List<String> sorted, Map<String, Integer> map, String line) {
+		for (String key : sorted) {
+			if (PatternMatcher.match(key, line)) {
+				return map.get(key);
+			}
+		}
+		return null;
+	}
+
+	private String randomString(Random random, boolean pattern) {
+		String alphabet = pattern ? "ab*?" : "ab";
+		StringBuilder builder = new StringBuilder();
+		int length = random.nextInt(6);
+		for (int i = 0; i < length; i++) {
+			builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+		}
+		return builder.toString();
+	}
+
+}
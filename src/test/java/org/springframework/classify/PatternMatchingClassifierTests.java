@@ -54,4 +54,25 @@ public class PatternMatchingClassifierTests {
 		assertThat(classifier.classify("bucket")).isEqualTo("spam");
 	}
 
+	@Test
+	public void testCacheSize() {
+		classifier.setCacheSize(4);
+		classifier.setPatternMap(map);
+		for (int i = 0; i < 3; i++) {
+			assertThat(classifier.classify("foo")).isEqualTo("bar");
+			assertThat(classifier.classify("bucket")).isEqualTo("spam");
+		}
+	}
+
+	@Test
+	public void testCacheSizeAfterPatternMap() {
+		classifier.setPatternMap(map);
+		assertThat(classifier.classify("foo")).isEqualTo("bar");
+		classifier.setCacheSize(4);
+		for (int i = 0; i < 3; i++) {
+			assertThat(classifier.classify("foo")).isEqualTo("bar");
+			assertThat(classifier.classify("bucket")).isEqualTo("spam");
+		}
+	}
+
 }
@@ -16,6 +16,10 @@
 
 package org.springframework.classify;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.Collections;
 import java.util.function.Supplier;
 
@@ -39,6 +43,54 @@ public class SubclassClassifierTests {
 		assertThat(classifier.classify(new Bar())).isEqualTo("foo");
 	}
 
+	@Test
+	public void testTypeMapIsNotModifiedByClassify() {
+		SubclassClassifier<Object, String> classifier = new SubclassClassifier<>("default");
+		classifier.add(Foo.class, "foo");
+		assertThat(classifier.classify(new Bar())).isEqualTo("foo");
+		assertThat(classifier.classify(new Bar())).isEqualTo("foo");
+		assertThat(classifier.classify("bar")).isEqualTo("default");
+		assertThat(classifier.getClassified()).containsOnlyKeys(Foo.class);
+	}
+
+	@Test
+	public void testAddAfterClassify() {
+		SubclassClassifier<Object, String> classifier = new SubclassClassifier<>("default");
+		classifier.add(Foo.class, "foo");
+		assertThat(classifier.classify(new Bar())).isEqualTo("foo");
+		assertThat(classifier.classify("bar")).isEqualTo("default");
+		classifier.add(Bar.class, "bar");
+		classifier.add(CharSequence.class, "chars");
+		assertThat(classifier.classify(new Bar())).isEqualTo("bar");
+		assertThat(classifier.classify(new Foo())).isEqualTo("foo");
+		assertThat(classifier.classify("bar")).isEqualTo("chars");
+	}
+
+	@Test
+	public void testDefaultValueChangeAfterClassify() {
+		SubclassClassifier<Object, String> classifier = new SubclassClassifier<>("default");
+		assertThat(classifier.classify("bar")).isEqualTo("default");
+		classifier.setDefaultValue("other");
+		assertThat(classifier.classify("bar")).isEqualTo("other");
+	}
+
+	@Test
+	public void testClassifyAfterDeserialization() throws Exception {
+		SubclassClassifier<Object, String> classifier = new SubclassClassifier<>("default");
+		classifier.add(Supplier.class, "foo");
+		assertThat(classifier.classify(new Foo())).isEqualTo("foo");
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(classifier);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			@SuppressWarnings("unchecked")
+			SubclassClassifier<Object, String> copy = (SubclassClassifier<Object, String>) in.readObject();
+			assertThat(copy.classify(new Foo())).isEqualTo("foo");
+			assertThat(copy.classify("bar")).isEqualTo("default");
+		}
+	}
+
 	public class Bar extends Foo {
 
 	}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.classify.util;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.util.ReflectionUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+public class MethodHandleMethodInvokerTests {
+
+	private final Target target = new Target();
+
+	@Test
+	public void testInvokePrimitiveArguments() {
+		MethodInvoker invoker = MethodInvokerUtils.getMethodHandleInvoker(this.target, method("add"));
+		assertThat(invoker.invokeMethod(2, 3)).isEqualTo(5);
+	}
+
+	@Test
+	public void testInvokePrivateVoidMethod() {
+		MethodInvoker invoker = MethodInvokerUtils.getMethodHandleInvoker(this.target, method("record"));
+		assertThat(invoker.invokeMethod("foo")).isNull();
+		assertThat(this.target.recorded).isEqualTo("foo");
+	}
+
+	@Test
+	public void testInvokeStaticMethod() {
+		MethodInvoker invoker = MethodInvokerUtils.getMethodHandleInvoker(this.target, method("upper"));
+		assertThat(invoker.invokeMethod("foo")).isEqualTo("FOO");
+	}
+
+	@Test
+	public void testWrongNumberOfArguments() {
+		MethodInvoker invoker = MethodInvokerUtils.getMethodHandleInvoker(this.target, method("add"));
+		assertThatIllegalStateException().isThrownBy(() -> invoker.invokeMethod(1));
+	}
+
+	@Test
+	public void testFailureIsWrapped() {
+		MethodInvoker invoker = MethodInvokerUtils.getMethodHandleInvoker(this.target, method("fail"));
+		assertThatIllegalArgumentException().isThrownBy(() -> invoker.invokeMethod("foo"))
+			.withCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	public void testTargetExtractedFromProxy() {
+		Object proxy = new ProxyFactory(this.target).getProxy();
+		MethodInvoker invoker = MethodInvokerUtils
+			.toMethodHandleInvoker(new SimpleMethodInvoker(proxy, method("record")));
+		assertThat(invoker).isInstanceOf(MethodHandleMethodInvoker.class);
+		invoker.invokeMethod("bar");
+		assertThat(this.target.recorded).isEqualTo("bar");
+	}
+
+	private Method method(String name) {
+		for (Method method : ReflectionUtils.getDeclaredMethods(Target.class)) {
+			if (method.getName().equals(name)) {
+				return method;
+			}
+		}
+		throw new IllegalArgumentException(name);
+	}
+
+	public static class Target {
+
+		private String recorded;
+
+		public int add(int first, int second) {
+			return first + second;
+		}
+
+		private void record(String value) {
+			this.recorded = value;
+		}
+
+		public static String upper(String value) {
+			return value.toUpperCase();
+		}
+
+		public String fail(String value) {
+			throw new IllegalStateException(value);
+		}
+
+	}
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.annotation;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.policy.CircuitBreakerRetryPolicy;
+import org.springframework.retry.support.RetrySynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CircuitBreakerFailureRateTests {
+
+	private final AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+			TestConfiguration.class);
+
+	private final Service service = this.context.getBean(Service.class);
+
+	@AfterEach
+	public void close() {
+		this.context.close();
+	}
+
+	@Test
+	public void testOpensOnFailureRate() throws Exception {
+		assertThat(this.service.service("")).isEqualTo("OK");
+		assertThat(this.service.service("")).isEqualTo("OK");
+		assertThat(this.service.service("FAIL")).isEqualTo("RECOVERED");
+		assertThat((Boolean) this.service.getContext().getAttribute(CircuitBreakerRetryPolicy.CIRCUIT_OPEN)).isFalse();
+		assertThat(this.service.service("FAIL")).isEqualTo("RECOVERED");
+		assertThat(this.service.getCount()).isEqualTo(4);
+		// short-circuited
+		assertThat(this.service.service("")).isEqualTo("RECOVERED");
+		assertThat(this.service.getCount()).isEqualTo(4);
+		Thread.sleep(150);
+		assertThat(this.service.service("")).isEqualTo("OK");
+		assertThat(this.service.getCount()).isEqualTo(5);
+	}
+
+	@Test
+	public void testExcludedExceptionsAreNotFailures() {
+		for (int i = 0; i < 6; i++) {
+			assertThat(this.service.service("IGNORE")).isEqualTo("RECOVERED");
+		}
+		assertThat(this.service.getCount()).isEqualTo(6);
+	}
+
+	@Test
+	public void testOpensOnSlowCallRate() throws Exception {
+		for (int i = 0; i < 2; i++) {
+			assertThat(this.service.slowService()).isEqualTo("OK");
+		}
+		assertThat(this.service.getCount()).isEqualTo(2);
+		assertThat(this.service.slowService()).isEqualTo("RECOVERED");
+		assertThat(this.service.getCount()).isEqualTo(2);
+	}
+
+	@Configuration
+	@EnableRetry
+	protected static class TestConfiguration {
+
+		@Bean
+		public Service service() {
+			return new Service();
+		}
+
+	}
+
+	static class Service {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		private RetryContext context;
+
+		@CircuitBreaker(noRetryFor = IllegalArgumentException.class, failureRateThreshold = 50,
+				minimumNumberOfCalls = 4, slidingWindowSize = 10, resetTimeout = 100, permittedCallsInHalfOpenState = 1)
+		public String service(String payload) {
+			this.context = RetrySynchronizationManager.getContext();
+			this.count.incrementAndGet();
+			if (payload.equals("FAIL")) {
+				throw new IllegalStateException("Planned");
+			}
+			if (payload.equals("IGNORE")) {
+				throw new IllegalArgumentException("Planned");
+			}
+			return "OK";
+		}
+
+		@CircuitBreaker(slowCallRateThreshold = 100, slowCallDuration = 10, minimumNumberOfCalls = 2,
+				slidingWindowSize = 10)
+		public String slowService() throws InterruptedException {
+			this.count.incrementAndGet();
+			Thread.sleep(20);
+			return "OK";
+		}
+
+		@Recover
+		public String recover(Exception ex) {
+			return "RECOVERED";
+		}
+
+		public RetryContext getContext() {
+			return this.context;
+		}
+
+		public int getCount() {
+			return this.count.get();
+		}
+
+	}
+
+}
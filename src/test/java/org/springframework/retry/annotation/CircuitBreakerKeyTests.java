@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.annotation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CircuitBreakerKeyTests {
+
+	private final AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+			TestConfiguration.class);
+
+	private final Service service = this.context.getBean(Service.class);
+
+	@AfterEach
+	public void close() {
+		this.context.close();
+	}
+
+	@Test
+	public void testCircuitPerKey() {
+		assertThat(this.service.service(new Request("a", true))).isEqualTo("RECOVERED");
+		assertThat(this.service.service(new Request("a", true))).isEqualTo("RECOVERED");
+		// the circuit for "a" is open
+		assertThat(this.service.service(new Request("a", false))).isEqualTo("RECOVERED");
+		assertThat(this.service.getCount("a")).isEqualTo(2);
+		// "b" has a circuit of its own
+		assertThat(this.service.service(new Request("b", false))).isEqualTo("OK");
+		assertThat(this.service.getCount("b")).isEqualTo(1);
+	}
+
+	@Test
+	public void testRateBasedCircuitPerKey() {
+		for (int i = 0; i < 2; i++) {
+			assertThat(this.service.rateService(new Request("a", true))).isEqualTo("RECOVERED");
+		}
+		assertThat(this.service.rateService(new Request("a", false))).isEqualTo("RECOVERED");
+		assertThat(this.service.getCount("a")).isEqualTo(2);
+		assertThat(this.service.rateService(new Request("b", false))).isEqualTo("OK");
+		assertThat(this.service.getCount("b")).isEqualTo(1);
+	}
+
+	@Test
+	public void testSuccessesBeforeFirstFailureAreRecordedForKey() {
+		for (int i = 0; i < 3; i++) {
+			assertThat(this.service.rateService(new Request("a", false))).isEqualTo("OK");
+		}
+		for (int i = 0; i < 2; i++) {
+			assertThat(this.service.rateService(new Request("a", true))).isEqualTo("RECOVERED");
+		}
+		// two failures out of five calls: the circuit for "a" is still closed
+		assertThat(this.service.rateService(new Request("a", false))).isEqualTo("OK");
+		assertThat(this.service.getCount("a")).isEqualTo(6);
+	}
+
+	@Test
+	public void testLeastRecentlyUsedCircuitIsDropped() {
+		this.service.service(new Request("a", true));
+		this.service.service(new Request("a", true));
+		for (String host : new String[] { "b", "c", "d" }) {
+			this.service.service(new Request(host, false));
+		}
+		// "a" was evicted and starts with a closed circuit
+		assertThat(this.service.service(new Request("a", false))).isEqualTo("OK");
+		assertThat(this.service.getCount("a")).isEqualTo(3);
+	}
+
+	@Configuration
+	@EnableRetry
+	protected static class TestConfiguration {
+
+		@Bean
+		public Service service() {
+			return new Service();
+		}
+
+	}
+
+	record Request(String host, boolean fail) {
+	}
+
+	static class Service {
+
+		private final Map<String, AtomicInteger> counts = new ConcurrentHashMap<>();
+
+		@CircuitBreaker(key = "args[0].host", maxKeys = 3, maxAttempts = 2, openTimeout = 10000, resetTimeout = 10000)
+		public String service(Request request) {
+			return call(request);
+		}
+
+		@CircuitBreaker(key = "args[0].host", failureRateThreshold = 50, minimumNumberOfCalls = 2, resetTimeout = 10000)
+		public String rateService(Request request) {
+			return call(request);
+		}
+
+		private String call(Request request) {
+			this.counts.computeIfAbsent(request.host(), host -> new AtomicInteger()).incrementAndGet();
+			if (request.fail()) {
+				throw new IllegalStateException("Planned");
+			}
+			return "OK";
+		}
+
+		@Recover
+		public String recover(Exception ex, Request request) {
+			return "RECOVERED";
+		}
+
+		public int getCount(String host) {
+			AtomicInteger count = this.counts.get(host);
+			return count != null ? count.get() : 0;
+		}
+
+	}
+
+}
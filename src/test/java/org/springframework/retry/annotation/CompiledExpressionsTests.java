@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.annotation;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+public class CompiledExpressionsTests {
+
+	@Test
+	public void argumentIndependentValuesCached() {
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(Config.class)) {
+			Service service = context.getBean(Service.class);
+			Settings settings = context.getBean(Settings.class);
+			assertThat(service.fromSettings()).isEqualTo(3);
+			assertThat(service.fromSettings()).isEqualTo(6);
+			assertThat(settings.maxAttemptsReads.get()).isEqualTo(1);
+			assertThat(settings.delayReads.get()).isEqualTo(1);
+			settings.maxAttempts = 2;
+			// still the cached value
+			assertThat(service.fromSettings()).isEqualTo(9);
+		}
+	}
+
+	@Test
+	public void argumentDependentValuesEvaluatedOnEachCall() {
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(Config.class)) {
+			Service service = context.getBean(Service.class);
+			for (int i = 0; i < 150; i++) {
+				int attempts = 1 + i % 4;
+				assertThat(service.fromArgs(attempts)).isEqualTo(attempts);
+			}
+		}
+	}
+
+	@Test
+	public void exceptionExpression() {
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(Config.class)) {
+			Service service = context.getBean(Service.class);
+			for (int i = 0; i < 150; i++) {
+				assertThat(service.retryable("retry")).isEqualTo(3);
+				assertThatIllegalStateException().isThrownBy(() -> service.retryable("fail"));
+			}
+		}
+	}
+
+	@Configuration
+	@EnableRetry(compileExpressions = true, expressionCacheTimeout = 60_000)
+	public static class Config {
+
+		@Bean
+		public Settings settings() {
+			return new Settings();
+		}
+
+		@Bean
+		public Service service() {
+			return new Service();
+		}
+
+	}
+
+	public static class Settings {
+
+		private final AtomicInteger maxAttemptsReads = new AtomicInteger();
+
+		private final AtomicInteger delayReads = new AtomicInteger();
+
+		private int maxAttempts = 3;
+
+		public int getMaxAttempts() {
+			this.maxAttemptsReads.incrementAndGet();
+			return this.maxAttempts;
+		}
+
+		public long getDelay() {
+			this.delayReads.incrementAndGet();
+			return 0;
+		}
+
+	}
+
+	public static class Service {
+
+		private int count;
+
+		private int attempts;
+
+		@Retryable(maxAttemptsExpression = "@settings.maxAttempts",
+				backoff = @Backoff(delayExpression = "@settings.delay"))
+		public int fromSettings() {
+			if (++this.count % 3 != 0) {
+				throw new IllegalStateException("Planned");
+			}
+			return this.count;
+		}
+
+		@Retryable(maxAttemptsExpression = "args[0] ?: 1", backoff = @Backoff(0))
+		public int fromArgs(int maxAttempts) {
+			if (++this.attempts < maxAttempts) {
+				throw new IllegalStateException("Planned");
+			}
+			int attempts = this.attempts;
+			this.attempts = 0;
+			return attempts;
+		}
+
+		@Retryable(exceptionExpression = "message.contains('retry')", backoff = @Backoff(0))
+		public int retryable(String message) {
+			if (!message.contains("retry") || ++this.attempts < 3) {
+				throw new IllegalStateException(message);
+			}
+			int attempts = this.attempts;
+			this.attempts = 0;
+			return attempts;
+		}
+
+	}
+
+}
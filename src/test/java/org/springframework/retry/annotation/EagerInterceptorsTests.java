@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.annotation;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EagerInterceptorsTests {
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void interceptorsBuiltForSingletons() throws Exception {
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(Config.class)) {
+			Map<Object, Object> delegates = delegates(context);
+			Service service = context.getBean(Service.class);
+			ClassService classService = context.getBean(ClassService.class);
+			assertThat(AopUtils.isJdkDynamicProxy(service)).isTrue();
+			Object serviceTarget = ((Advised) service).getTargetSource().getTarget();
+			Object classServiceTarget = ((Advised) classService).getTargetSource().getTarget();
+			assertThat(delegates).containsKeys(serviceTarget, classServiceTarget);
+			Map<Object, Object> serviceDelegates = (Map<Object, Object>) delegates.get(serviceTarget);
+			Map<Object, Object> classServiceDelegates = (Map<Object, Object>) delegates.get(classServiceTarget);
+			assertThat(serviceDelegates.keySet()).containsExactly(Service.class.getMethod("service"));
+			assertThat(classServiceDelegates.keySet()).containsExactly(ClassService.class.getMethod("service"));
+			Object serviceDelegate = serviceDelegates.get(Service.class.getMethod("service"));
+			Object classServiceDelegate = classServiceDelegates.get(ClassService.class.getMethod("service"));
+
+			assertThat(service.service()).isEqualTo(3);
+			assertThat(classService.service()).isEqualTo(3);
+			// the delegates built up-front are the ones used
+			assertThat(serviceDelegates.get(Service.class.getMethod("service"))).isSameAs(serviceDelegate);
+			assertThat(classServiceDelegates.get(ClassService.class.getMethod("service")))
+				.isSameAs(classServiceDelegate);
+		}
+	}
+
+	@Test
+	public void plansSharedByPrototypes() {
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(Config.class)) {
+			for (int i = 0; i < 3; i++) {
+				assertThat(context.getBean(PrototypeService.class).service()).isEqualTo(3);
+			}
+			Map<?, ?> plans = (Map<?, ?>) new DirectFieldAccessor(interceptor(context)).getPropertyValue("plans");
+			long prototypeEntries = plans.keySet()
+				.stream()
+				.filter(key -> key.toString().contains(PrototypeService.class.getName()))
+				.count();
+			assertThat(prototypeEntries).isEqualTo(1);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<Object, Object> delegates(AnnotationConfigApplicationContext context) {
+		return (Map<Object, Object>) new DirectFieldAccessor(interceptor(context)).getPropertyValue("delegates");
+	}
+
+	private AnnotationAwareRetryOperationsInterceptor interceptor(AnnotationConfigApplicationContext context) {
+		return (AnnotationAwareRetryOperationsInterceptor) context.getBean(RetryConfiguration.class).getAdvice();
+	}
+
+	@Configuration
+	@EnableRetry(eagerInterceptors = true)
+	public static class Config {
+
+		@Bean
+		public Service service() {
+			return new DefaultService();
+		}
+
+		@Bean
+		public ClassService classService() {
+			return new ClassService();
+		}
+
+		@Bean
+		@Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+		public PrototypeService prototypeService() {
+			return new PrototypeService();
+		}
+
+	}
+
+	public interface Service {
+
+		@Retryable(backoff = @Backoff(0))
+		int service();
+
+		void notRetryable();
+
+	}
+
+	public static class DefaultService implements Service {
+
+		private int count;
+
+		@Override
+		public int service() {
+			if (++this.count < 3) {
+				throw new IllegalStateException("Planned");
+			}
+			return this.count;
+		}
+
+		@Override
+		public void notRetryable() {
+		}
+
+	}
+
+	public static class ClassService {
+
+		private int count;
+
+		@Retryable(backoff = @Backoff(0))
+		public int service() {
+			if (++this.count < 3) {
+				throw new IllegalStateException("Planned");
+			}
+			return this.count;
+		}
+
+		public void notRetryable() {
+		}
+
+	}
+
+	public static class PrototypeService {
+
+		private int count;
+
+		@Retryable(backoff = @Backoff(0))
+		public int service() {
+			if (++this.count < 3) {
+				throw new IllegalStateException("Planned");
+			}
+			return this.count;
+		}
+
+	}
+
+}
@@ -16,8 +16,12 @@
 
 package org.springframework.retry.annotation;
 
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
+import org.springframework.aop.framework.Advised;
+import org.springframework.beans.DirectFieldAccessor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Bean;
@@ -44,6 +48,9 @@ public class PrototypeBeanTests {
 	@Autowired
 	private Foo foo;
 
+	@Autowired
+	private RetryConfiguration retryConfiguration;
+
 	@Test
 	public void testProtoBean() {
 		this.bar1.foo("one");
@@ -51,6 +58,25 @@ public class PrototypeBeanTests {
 		assertThat(this.foo.recovered).isEqualTo("two");
 	}
 
+	@Test
+	public void testRetryOperationsSharedByPrototypes() throws Exception {
+		this.bar1.foo("one");
+		this.bar2.foo("two");
+		Object interceptor1 = delegate(this.bar1);
+		Object interceptor2 = delegate(this.bar2);
+		// the recoverer is bound to each instance, the retry operations are not
+		assertThat(interceptor1).isNotSameAs(interceptor2);
+		assertThat(new DirectFieldAccessor(interceptor1).getPropertyValue("retryOperations"))
+			.isSameAs(new DirectFieldAccessor(interceptor2).getPropertyValue("retryOperations"));
+	}
+
+	private Object delegate(Bar bar) throws Exception {
+		Object target = ((Advised) bar).getTargetSource().getTarget();
+		Map<?, ?> delegates = (Map<?, ?>) new DirectFieldAccessor(this.retryConfiguration.getAdvice())
+			.getPropertyValue("delegates");
+		return ((Map<?, ?>) delegates.get(target)).get(Bar.class.getMethod("foo", String.class));
+	}
+
 	@Configuration
 	@EnableRetry
 	public static class Config {
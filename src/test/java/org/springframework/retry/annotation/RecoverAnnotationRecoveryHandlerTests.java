@@ -16,6 +16,7 @@
 
 package org.springframework.retry.annotation;
 
+import java.io.IOException;
 import java.lang.annotation.Documented;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -24,6 +25,7 @@ import java.lang.annotation.Target;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -296,6 +298,28 @@ public class RecoverAnnotationRecoveryHandlerTests {
 			.isEqualTo(1);
 	}
 
+	@Test
+	public void recoveryResolvedPerArgumentShape() {
+		Method foo = ReflectionUtils.findMethod(RecoverPerArgumentType.class, "foo", Object.class);
+		RecoverAnnotationRecoveryHandler<?> handler = new RecoverAnnotationRecoveryHandler<Integer>(
+				new RecoverPerArgumentType(), foo);
+		for (int i = 0; i < 3; i++) {
+			assertThat(handler.recover(new Object[] { "Randell" }, new RuntimeException("Planned"))).isEqualTo(1);
+			assertThat(handler.recover(new Object[] { 42 }, new RuntimeException("Planned"))).isEqualTo(2);
+			assertThat(handler.recover(new Object[] { 42 }, new IllegalStateException("Planned"))).isEqualTo(3);
+		}
+	}
+
+	@Test
+	public void checkedExceptionFromRecoverMethod() {
+		Method foo = ReflectionUtils.findMethod(RecoverPerArgumentType.class, "foo", Object.class);
+		RecoverAnnotationRecoveryHandler<?> handler = new RecoverAnnotationRecoveryHandler<Integer>(
+				new RecoverPerArgumentType(), foo);
+		assertThatExceptionOfType(UndeclaredThrowableException.class)
+			.isThrownBy(() -> handler.recover(new Object[] { "Randell" }, new IOException("Planned")))
+			.withCauseInstanceOf(IOException.class);
+	}
+
 	@Test
 	public void recoverByRetryableName() {
 		Method foo = ReflectionUtils.findMethod(RecoverByRetryableName.class, "foo", String.class);
@@ -692,6 +716,35 @@ public class RecoverAnnotationRecoveryHandlerTests {
 
 	}
 
+	protected static class RecoverPerArgumentType {
+
+		@Retryable
+		public int foo(Object value) {
+			return 0;
+		}
+
+		@Recover
+		public int fooRecover(RuntimeException e, String name) {
+			return 1;
+		}
+
+		@Recover
+		public int barRecover(RuntimeException e, Integer number) {
+			return 2;
+		}
+
+		@Recover
+		public int bazRecover(IllegalStateException e, Integer number) {
+			return 3;
+		}
+
+		@Recover
+		public int quxRecover(IOException e, String name) throws IOException {
+			throw e;
+		}
+
+	}
+
 	protected static class RecoverByRetryableName implements RecoverByRetryableNameInterface {
 
 		public int foo(String name) {
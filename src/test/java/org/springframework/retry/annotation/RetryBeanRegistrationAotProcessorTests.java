@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.annotation;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.AotServices;
+import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
+import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
+import org.springframework.beans.factory.aot.BeanRegistrationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.retry.support.Args;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class RetryBeanRegistrationAotProcessorTests {
+
+	private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+	@Test
+	public void registeredInAotFactories() {
+		assertThat(AotServices.factories().load(BeanRegistrationAotProcessor.class))
+			.hasAtLeastOneElementOfType(RetryBeanRegistrationAotProcessor.class);
+	}
+
+	@Test
+	public void hintsForRetryableAndRecoverMethods() {
+		RuntimeHints hints = contribute(Service.class);
+		assertThat(RuntimeHintsPredicates.reflection().onMethod(Service.class, "service").invoke()).accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection().onMethod(Service.class, "recover").invoke()).accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection().onMethod(Service.class, "other").invoke()).rejects(hints);
+		assertThat(RuntimeHintsPredicates.reflection()
+			.onType(Service.class)
+			.withMemberCategory(MemberCategory.INTROSPECT_DECLARED_METHODS)).accepts(hints);
+	}
+
+	@Test
+	public void hintsForRetryableClass() {
+		RuntimeHints hints = contribute(RetryableService.class);
+		assertThat(RuntimeHintsPredicates.reflection().onMethod(RetryableService.class, "service").invoke())
+			.accepts(hints);
+	}
+
+	@Test
+	public void noContributionWithoutRetryMethods() {
+		this.beanFactory.registerBeanDefinition("bean", new RootBeanDefinition(Object.class));
+		assertThat(
+				new RetryBeanRegistrationAotProcessor().processAheadOfTime(RegisteredBean.of(this.beanFactory, "bean")))
+			.isNull();
+	}
+
+	@Test
+	public void argsHints() {
+		RuntimeHints hints = new RuntimeHints();
+		new RetryRuntimeHints().registerHints(hints, getClass().getClassLoader());
+		assertThat(RuntimeHintsPredicates.reflection().onMethod(Args.class, "getArgs").invoke()).accepts(hints);
+	}
+
+	private RuntimeHints contribute(Class<?> beanClass) {
+		this.beanFactory.registerBeanDefinition("bean", new RootBeanDefinition(beanClass));
+		BeanRegistrationAotContribution contribution = new RetryBeanRegistrationAotProcessor()
+			.processAheadOfTime(RegisteredBean.of(this.beanFactory, "bean"));
+		assertThat(contribution).isNotNull();
+		RuntimeHints hints = new RuntimeHints();
+		GenerationContext generationContext = mock(GenerationContext.class);
+		given(generationContext.getRuntimeHints()).willReturn(hints);
+		contribution.applyTo(generationContext, mock(BeanRegistrationCode.class));
+		return hints;
+	}
+
+	public static class Service {
+
+		@Retryable
+		public void service() {
+		}
+
+		@Recover
+		public void recover(Exception ex) {
+		}
+
+		public void other() {
+		}
+
+	}
+
+	@Retryable
+	public static class RetryableService {
+
+		public void service() {
+		}
+
+	}
+
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.context;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryException;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class BinaryRetryContextCodecTests {
+
+	private final BinaryRetryContextCodec codec = new BinaryRetryContextCodec();
+
+	private final SimpleRetryPolicy policy = new SimpleRetryPolicy(5);
+
+	@Test
+	public void testRoundTrip() {
+		RetryContext context = failed(3, new IllegalStateException("Planned"));
+		context.setAttribute(RetryContext.NAME, "foo");
+		context.setAttribute(RetryContext.MAX_ATTEMPTS, 5);
+		context.setAttribute(RetryContext.EXHAUSTED, true);
+		context.setExhaustedOnly();
+		RetryContext decoded = this.codec.decode(this.codec.encode(context), this.policy);
+		assertThat(decoded.getClass()).isEqualTo(context.getClass());
+		assertThat(decoded.getRetryCount()).isEqualTo(3);
+		assertThat(decoded.isExhaustedOnly()).isTrue();
+		assertThat(decoded.getLastThrowable()).isInstanceOf(IllegalStateException.class).hasMessage("Planned");
+		assertThat(decoded.getAttribute(RetryContext.NAME)).isEqualTo("foo");
+		assertThat(decoded.getAttribute(RetryContext.MAX_ATTEMPTS)).isEqualTo(5);
+		assertThat(decoded.getAttribute(RetryContext.EXHAUSTED)).isEqualTo(true);
+		assertThat(decoded.hasAttribute(RetryContext.RECOVERED)).isFalse();
+	}
+
+	@Test
+	public void testFreshContext() {
+		RetryContext decoded = this.codec.decode(this.codec.encode(this.policy.open(null)), this.policy);
+		assertThat(decoded.getRetryCount()).isZero();
+		assertThat(decoded.getLastThrowable()).isNull();
+	}
+
+	@Test
+	public void testFailuresAreNotRegisteredWithThePolicy() {
+		AtomicInteger registered = new AtomicInteger();
+		SimpleRetryPolicy policy = new SimpleRetryPolicy(5) {
+
+			@Override
+			public void registerThrowable(RetryContext context, Throwable throwable) {
+				// a policy sharing state between contexts, such as a circuit
+				registered.incrementAndGet();
+				super.registerThrowable(context, throwable);
+			}
+
+		};
+		RetryContext decoded = this.codec.decode(this.codec.encode(failed(3, new IllegalStateException("Planned"))),
+				policy);
+		assertThat(decoded.getRetryCount()).isEqualTo(3);
+		assertThat(decoded.getLastThrowable()).isInstanceOf(IllegalStateException.class);
+		assertThat(policy.canRetry(decoded)).isTrue();
+		assertThat(registered.get()).isZero();
+	}
+
+	@Test
+	public void testUnknownExceptionTypeIsSummarized() {
+		RetryContext context = failed(1, new NoPublicConstructorException());
+		RetryContext decoded = this.codec.decode(this.codec.encode(context), this.policy);
+		assertThat(decoded.getLastThrowable()).isInstanceOf(RetryException.class)
+			.hasMessageContaining(NoPublicConstructorException.class.getName());
+	}
+
+	@Test
+	public void testOnlyThrowablesAreInstantiated() throws IOException {
+		byte[] data = encoded(1, StringBuilder.class.getName(), "Planned");
+		RetryContext decoded = this.codec.decode(data, this.policy);
+		assertThat(decoded.getRetryCount()).isEqualTo(1);
+		assertThat(decoded.getLastThrowable()).isInstanceOf(RetryException.class)
+			.hasMessage(StringBuilder.class.getName() + ": Planned");
+	}
+
+	@Test
+	public void testExceptionTypeResolvedWithClassLoader() {
+		byte[] data = this.codec.encode(failed(1, new PlannedException("Planned")));
+		assertThat(this.codec.decode(data, this.policy).getLastThrowable()).isInstanceOf(PlannedException.class);
+		this.codec.setClassLoader(new ClassLoader(null) {
+		});
+		assertThat(this.codec.decode(data, this.policy).getLastThrowable()).isInstanceOf(RetryException.class)
+			.hasMessageContaining(PlannedException.class.getName());
+	}
+
+	@Test
+	public void testRetryCountOutOfRange() throws IOException {
+		byte[] data = encoded(Integer.MAX_VALUE, IllegalStateException.class.getName(), "Planned");
+		assertThatIllegalArgumentException().isThrownBy(() -> this.codec.decode(data, this.policy))
+			.withMessageContaining("Retry count");
+		this.codec.setMaxRetryCount(3);
+		byte[] four = this.codec.encode(failed(4, new IllegalStateException("Planned")));
+		assertThatIllegalArgumentException().isThrownBy(() -> this.codec.decode(four, this.policy));
+	}
+
+	@Test
+	public void testCustomAttributes() {
+		this.codec.registerAttribute("tenant", new StringCodec());
+		RetryContext context = failed(1, new IllegalStateException("Planned"));
+		context.setAttribute("tenant", "acme");
+		context.setAttribute("ignored", new Object());
+		byte[] data = this.codec.encode(context);
+		RetryContext decoded = this.codec.decode(data, this.policy);
+		assertThat(decoded.getAttribute("tenant")).isEqualTo("acme");
+		assertThat(decoded.hasAttribute("ignored")).isFalse();
+		// a codec that does not know the attribute skips it
+		RetryContext skipped = new BinaryRetryContextCodec().decode(data, this.policy);
+		assertThat(skipped.hasAttribute("tenant")).isFalse();
+		assertThat(skipped.getRetryCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testMuchSmallerThanJavaSerialization() throws IOException {
+		RetryContext context = failed(2, new IllegalStateException("Planned"));
+		context.setAttribute(RetryContext.NAME, "foo");
+		ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+		try (ObjectOutputStream output = new ObjectOutputStream(serialized)) {
+			output.writeObject(context);
+		}
+		assertThat(this.codec.encode(context).length * 10).isLessThan(serialized.size());
+	}
+
+	@Test
+	public void testUnsupportedVersion() {
+		byte[] data = this.codec.encode(failed(1, new IllegalStateException("Planned")));
+		data[0] = 99;
+		assertThatIllegalArgumentException().isThrownBy(() -> this.codec.decode(data, this.policy))
+			.withMessageContaining("version");
+	}
+
+	private static byte[] encoded(int count, String type, String message) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(bytes);
+		output.writeByte(1);
+		writeVarInt(output, count);
+		// a last exception and no other flags
+		output.writeByte(1 << 5);
+		for (String value : new String[] { type, message }) {
+			byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+			writeVarInt(output, utf8.length + 1);
+			output.write(utf8);
+		}
+		// no custom attributes
+		writeVarInt(output, 0);
+		return bytes.toByteArray();
+	}
+
+	private static void writeVarInt(DataOutput output, int value) throws IOException {
+		while ((value & ~0x7F) != 0) {
+			output.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		output.writeByte(value);
+	}
+
+	private RetryContext failed(int count, Throwable throwable) {
+		RetryContext context = this.policy.open(null);
+		for (int i = 0; i < count; i++) {
+			this.policy.registerThrowable(context, throwable);
+		}
+		return context;
+	}
+
+	@SuppressWarnings("serial")
+	private static class NoPublicConstructorException extends RuntimeException {
+
+	}
+
+	@SuppressWarnings("serial")
+	public static class PlannedException extends RuntimeException {
+
+		public PlannedException(String message) {
+			super(message);
+		}
+
+	}
+
+	private static class StringCodec implements BinaryRetryContextCodec.AttributeCodec<String> {
+
+		@Override
+		public void write(String value, DataOutput output) throws IOException {
+			output.writeUTF(value);
+		}
+
+		@Override
+		public String read(DataInput input) throws IOException {
+			return input.readUTF();
+		}
+
+	}
+
+}
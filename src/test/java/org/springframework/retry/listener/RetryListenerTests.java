@@ -118,6 +118,37 @@ public class RetryListenerTests {
 		assertThat(list.get(0)).isEqualTo("1:1");
 	}
 
+	@Test
+	public void testDispatchOnlyToImplementedCallbacks() {
+		RetryListener opening = new RetryListener() {
+			public <T, E extends Throwable> boolean open(RetryContext context, RetryCallback<T, E> callback) {
+				list.add("open");
+				return true;
+			}
+		};
+		RetryListener closing = new RetryListener() {
+			public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback,
+					Throwable t) {
+				list.add("close");
+			}
+		};
+		RetryListener erroring = new RetryListener() {
+			public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback,
+					Throwable throwable) {
+				list.add("error");
+			}
+		};
+		template.setListeners(new RetryListener[] { opening, closing });
+		template.registerListener(erroring, 0);
+		template.execute(context -> {
+			if (count++ < 1) {
+				throw new RuntimeException("Retry!");
+			}
+			return null;
+		});
+		assertThat(list).containsExactly("open", "error", "close");
+	}
+
 	@Test
 	public void testOpenCanVetoRetry() {
 		template.registerListener(new RetryListener() {
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.policy;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.classify.BinaryExceptionClassifier;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.policy.SlidingWindowCircuitBreakerRetryPolicy.State;
+import org.springframework.retry.support.DefaultRetryState;
+import org.springframework.retry.support.RetryTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CircuitBreakerTransitionEventTests {
+
+	private static final RetryCallback<Object, Exception> FAILING = context -> {
+		context.setAttribute(RetryContext.NAME, "breaker");
+		throw new IllegalStateException("Planned");
+	};
+
+	@TempDir
+	Path dir;
+
+	@Test
+	public void circuitBreakerOpensAndCloses() throws Exception {
+		CircuitBreakerRetryPolicy policy = new CircuitBreakerRetryPolicy(new NeverRetryPolicy());
+		policy.setResetTimeout(50);
+		RetryTemplate template = new RetryTemplate();
+		template.setRetryPolicy(policy);
+		DefaultRetryState state = new DefaultRetryState("key");
+		List<RecordedEvent> events = record(() -> {
+			call(template, FAILING, state);
+			call(template, FAILING, state);
+			Thread.sleep(100);
+			call(template, context -> null, state);
+		});
+		assertThat(events).extracting(event -> event.getString("from") + "->" + event.getString("to"))
+			.containsExactly("CLOSED->OPEN", "OPEN->CLOSED");
+		assertThat(events.get(1).getString("name")).isEqualTo("breaker");
+	}
+
+	@Test
+	public void slidingWindowTransitions() throws Exception {
+		SlidingWindowCircuitBreakerRetryPolicy policy = new SlidingWindowCircuitBreakerRetryPolicy();
+		policy.setSlidingWindowSize(2);
+		policy.setMinimumNumberOfCalls(2);
+		policy.setWaitDurationInOpenState(50);
+		policy.setPermittedCallsInHalfOpenState(1);
+		RetryTemplate template = new RetryTemplate();
+		template.setRetryPolicy(policy);
+		List<RecordedEvent> events = record(() -> {
+			call(template, FAILING, null);
+			call(template, FAILING, null);
+			Thread.sleep(100);
+			call(template, context -> null, null);
+		});
+		assertThat(policy.getState()).isEqualTo(State.CLOSED);
+		assertThat(events).extracting(event -> event.getString("from") + "->" + event.getString("to"))
+			.containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED");
+		assertThat(events.get(0).getFloat("failureRate")).isEqualTo(100f);
+	}
+
+	@Test
+	public void slidingWindowTransitionsNameTheCircuit() throws Exception {
+		SlidingWindowCircuitBreakerRetryPolicy policy = new SlidingWindowCircuitBreakerRetryPolicy();
+		policy.setSlidingWindowSize(2);
+		policy.setMinimumNumberOfCalls(2);
+		policy.setCircuitPerKey(true);
+		RetryTemplate template = new RetryTemplate();
+		template.setRetryPolicy(policy);
+		DefaultRetryState state = new DefaultRetryState("host-1", new BinaryExceptionClassifier(false));
+		List<RecordedEvent> events = record(() -> {
+			call(template, FAILING, state);
+			call(template, FAILING, state);
+		});
+		assertThat(events).hasSize(1);
+		assertThat(events.get(0).getString("name")).isEqualTo("breaker");
+		assertThat(events.get(0).getString("key")).isEqualTo("host-1");
+	}
+
+	private static void call(RetryTemplate template, RetryCallback<Object, Exception> callback,
+			DefaultRetryState state) {
+		try {
+			template.execute(callback, context -> null, state);
+		}
+		catch (Exception ex) {
+			// expected for stateful retry
+		}
+	}
+
+	private List<RecordedEvent> record(ThrowingRunnable runnable) throws Exception {
+		Path file = this.dir.resolve("circuit.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("org.springframework.retry.CircuitBreakerTransition");
+			recording.start();
+			runnable.run();
+			recording.stop();
+			recording.dump(file);
+		}
+		String thread = Thread.currentThread().getName();
+		return RecordingFile.readAllEvents(file)
+			.stream()
+			.filter(event -> event.getEventType()
+				.getName()
+				.equals("org.springframework.retry.CircuitBreakerTransition"))
+			.filter(event -> thread.equals(event.getThread().getJavaName()))
+			.sorted((one, two) -> one.getStartTime().compareTo(two.getStartTime()))
+			.toList();
+	}
+
+	private interface ThrowingRunnable {
+
+		void run() throws Exception;
+
+	}
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.policy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.context.RetryContextSupport;
+import org.springframework.retry.support.DefaultRetryState;
+import org.springframework.retry.support.RetryTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+public class ConcurrentRetryContextCacheTests {
+
+	private final ConcurrentRetryContextCache cache = new ConcurrentRetryContextCache();
+
+	@Test
+	public void testPut() {
+		RetryContextSupport context = new RetryContextSupport(null);
+		this.cache.put("foo", context);
+		assertThat(this.cache.get("foo")).isSameAs(context);
+	}
+
+	@Test
+	public void testRemove() {
+		assertThat(this.cache.containsKey("foo")).isFalse();
+		this.cache.put("foo", new RetryContextSupport(null));
+		assertThat(this.cache.containsKey("foo")).isTrue();
+		this.cache.remove("foo");
+		assertThat(this.cache.containsKey("foo")).isFalse();
+		assertThat(this.cache.getEvictionCount()).isZero();
+	}
+
+	@Test
+	public void testNullKeyIsNotCached() {
+		this.cache.put(null, new RetryContextSupport(null));
+		assertThat(this.cache.containsKey(null)).isFalse();
+		assertThat(this.cache.get(null)).isNull();
+		assertThat(this.cache.size()).isZero();
+	}
+
+	@Test
+	public void testEvictsLeastRecentlyUsedInsteadOfFailing() {
+		List<Object> evicted = new ArrayList<>();
+		this.cache.setMaxSize(10);
+		this.cache.setEvictionCallback((key, context) -> evicted.add(key));
+		for (int i = 0; i < 10; i++) {
+			this.cache.put(i, new RetryContextSupport(null));
+		}
+		this.cache.get(0);
+		this.cache.put(10, new RetryContextSupport(null));
+		// trimmed to 90% in one go, least recently used first
+		assertThat(this.cache.size()).isEqualTo(9);
+		assertThat(evicted).containsExactly(1, 2);
+		assertThat(this.cache.containsKey(0)).isTrue();
+		assertThat(this.cache.containsKey(10)).isTrue();
+		assertThat(this.cache.getEvictionCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void testExpiresIdleContexts() throws Exception {
+		List<RetryContext> evicted = new ArrayList<>();
+		ConcurrentRetryContextCache cache = new ConcurrentRetryContextCache(10, 50);
+		cache.setEvictionCallback((key, context) -> evicted.add(context));
+		RetryContextSupport foo = new RetryContextSupport(null);
+		cache.put("foo", foo);
+		cache.put("bar", new RetryContextSupport(null));
+		Thread.sleep(100);
+		assertThat(cache.get("foo")).isNull();
+		assertThat(evicted).containsExactly(foo);
+		cache.put("spam", new RetryContextSupport(null));
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.getEvictionCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void testEvictionBetweenAttemptsSparesContextInFlight() throws Exception {
+		this.cache.setMaxSize(1);
+		RetryTemplate template = new RetryTemplate();
+		template.setRetryContextCache(this.cache);
+		template.setRetryPolicy(new SimpleRetryPolicy(3));
+		DefaultRetryState state = new DefaultRetryState("foo");
+		RetryCallback<String, IllegalStateException> callback = context -> {
+			if (context.getRetryCount() == 1) {
+				// another stateful retry would push the one in flight out of the cache
+				this.cache.put("bar", new RetryContextSupport(null));
+				assertThat(this.cache.containsKey("foo")).isTrue();
+				assertThat(this.cache.containsKey("bar")).isFalse();
+			}
+			if (context.getRetryCount() < 2) {
+				throw new IllegalStateException("Planned");
+			}
+			return "RESULT";
+		};
+		for (int i = 0; i < 2; i++) {
+			assertThatIllegalStateException().isThrownBy(() -> template.execute(callback, state))
+				.withMessage("Planned");
+		}
+		assertThat(template.execute(callback, state)).isEqualTo("RESULT");
+		assertThat(this.cache.getEvictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testCounters() {
+		this.cache.put("foo", new RetryContextSupport(null));
+		// the lookup sequence used by RetryTemplate
+		assertThat(this.cache.containsKey("foo")).isTrue();
+		assertThat(this.cache.get("foo")).isNotNull();
+		assertThat(this.cache.containsKey("bar")).isFalse();
+		assertThat(this.cache.getHitCount()).isEqualTo(1);
+		assertThat(this.cache.getMissCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testConcurrentAccessStaysBounded() throws Exception {
+		this.cache.setMaxSize(100);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> results = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				int thread = t;
+				results.add(executor.submit(() -> {
+					for (int i = 0; i < 10000; i++) {
+						Object key = thread * 10000 + i;
+						this.cache.put(key, new RetryContextSupport(null));
+						this.cache.get(key);
+					}
+				}));
+			}
+			for (Future<?> result : results) {
+				result.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+		// puts racing a trim may overshoot, the next uncontended put trims again
+		this.cache.put("foo", new RetryContextSupport(null));
+		assertThat(this.cache.size()).isLessThanOrEqualTo(100);
+		assertThat(this.cache.getEvictionCount()).isEqualTo(80001 - this.cache.size());
+	}
+
+}
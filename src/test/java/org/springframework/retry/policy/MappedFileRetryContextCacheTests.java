@@ -0,0 +1,278 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.policy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.context.RetryContextSupport;
+import org.springframework.retry.support.DefaultRetryState;
+import org.springframework.retry.support.RetryTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+public class MappedFileRetryContextCacheTests {
+
+	@TempDir
+	Path directory;
+
+	private final SimpleRetryPolicy policy = new SimpleRetryPolicy(3);
+
+	@Test
+	public void testRetryCountSurvivesRestart() throws Exception {
+		Path file = this.directory.resolve("retry.log");
+		AtomicInteger calls = new AtomicInteger();
+		try (MappedFileRetryContextCache cache = new MappedFileRetryContextCache(file, this.policy)) {
+			RetryTemplate template = template(cache);
+			for (int i = 0; i < 3; i++) {
+				assertThatIllegalStateException().isThrownBy(() -> template.execute(context -> fail(calls),
+						context -> "RECOVERED", new DefaultRetryState("message-1")));
+			}
+		}
+		assertThat(calls.get()).isEqualTo(3);
+		try (MappedFileRetryContextCache cache = new MappedFileRetryContextCache(file, this.policy)) {
+			assertThat(cache.containsKey("message-1")).isTrue();
+			RetryContext context = cache.get("message-1");
+			assertThat(context.getRetryCount()).isEqualTo(3);
+			assertThat(context.getLastThrowable()).isInstanceOf(IllegalStateException.class).hasMessage("Planned");
+			assertThat(context.getAttribute(RetryContext.STATE_KEY)).isEqualTo("message-1");
+			// the budget is spent: straight to recovery
+			String result = template(cache).execute(retry -> fail(calls), retry -> "RECOVERED",
+					new DefaultRetryState("message-1"));
+			assertThat(result).isEqualTo("RECOVERED");
+			assertThat(calls.get()).isEqualTo(3);
+		}
+	}
+
+	@Test
+	public void testRemoveSurvivesRestart() throws Exception {
+		Path file = this.directory.resolve("retry.log");
+		try (MappedFileRetryContextCache cache = new MappedFileRetryContextCache(file, this.policy)) {
+			cache.put("foo", failed(1));
+			cache.put("bar", failed(2));
+			cache.remove("foo");
+		}
+		try (MappedFileRetryContextCache cache = new MappedFileRetryContextCache(file, this.policy)) {
+			assertThat(cache.containsKey("foo")).isFalse();
+			assertThat(cache.get("bar").getRetryCount()).isEqualTo(2);
+		}
+	}
+
+	@Test
+	public void testCompaction() throws Exception {
+		Path file = this.directory.resolve("retry.log");
+		try (MappedFileRetryContextCache cache = new MappedFileRetryContextCache(file, this.policy)) {
+			for (int i = 0; i < 10000; i++) {
+				cache.put("key-" + (i % 10), failed(i % 5));
+				if (i % 3 == 0) {
+					cache.remove("key-" + (i % 10));
+				}
+			}
+			cache.compact();
+			cache.put("spam", failed(4));
+		}
+		assertThat(Files.size(file)).isLessThan(1024 * 1024);
+		try (MappedFileRetryContextCache cache = new MappedFileRetryContextCache(file, this.policy)) {
+			assertThat(cache.get("spam").getRetryCount()).isEqualTo(4);
+			// key-8 was last put at i = 9998 with 3 failures
+			assertThat(cache.get("key-8").getRetryCount()).isEqualTo(3);
+			// key-9 was removed right after its last put at i = 9999
+			assertThat(cache.containsKey("key-9")).isFalse();
+		}
+	}
+
+	@Test
+	public void testAutomaticCompactionWritesEachRecordOnce() throws Exception {
+		Path file = this.directory.resolve("retry.log");
+		int count = 0;
+		try (MappedFileRetryContextCache cache = new MappedFileRetryContextCache(file, this.policy)) {
+			int previous = 0;
+			for (int i = 0; i < 100000; i++) {
+				count = 1 + i % 2;
+				cache.put("foo", failed(count));
+				List<ByteBuffer> records = records(Files.readAllBytes(file));
+				if (records.size() < previous) {
+					// compacted on this put: the snapshot it replaced, then the new one
+					assertThat(records).hasSize(2);
+					assertThat(records.get(0)).isNotEqualTo(records.get(1));
+					break;
+				}
+				previous = records.size();
+				assertThat(i).isLessThan(99999);
+			}
+			cache.put("bar", failed(3));
+			assertThat(records(Files.readAllBytes(file))).hasSize(3);
+		}
+		try (MappedFileRetryContextCache cache = new MappedFileRetryContextCache(file, this.policy)) {
+			assertThat(cache.get("foo").getRetryCount()).isEqualTo(count);
+			assertThat(cache.get("bar").getRetryCount()).isEqualTo(3);
+		}
+	}
+
+	@Test
+	public void testTornRecordIsIgnored() throws Exception {
+		Path file = this.directory.resolve("retry.log");
+		try (MappedFileRetryContextCache cache = new MappedFileRetryContextCache(file, this.policy)) {
+			cache.put("first", failed(1));
+			cache.put("second", failed(2));
+		}
+		byte[] bytes = Files.readAllBytes(file);
+		byte[] key = "second".getBytes(StandardCharsets.UTF_8);
+		int index = indexOf(bytes, key);
+		bytes[index + key.length] ^= 0xFF;
+		Files.write(file, bytes);
+		try (MappedFileRetryContextCache cache = new MappedFileRetryContextCache(file, this.policy)) {
+			assertThat(cache.get("first").getRetryCount()).isEqualTo(1);
+			assertThat(cache.containsKey("second")).isFalse();
+			cache.put("third", failed(3));
+		}
+		try (MappedFileRetryContextCache cache = new MappedFileRetryContextCache(file, this.policy)) {
+			assertThat(cache.get("third").getRetryCount()).isEqualTo(3);
+		}
+	}
+
+	@Test
+	public void testExpiredSnapshotsAreForgotten() throws Exception {
+		Path file = this.directory.resolve("retry.log");
+		try (MappedFileRetryContextCache cache = new MappedFileRetryContextCache(file, this.policy)) {
+			cache.put("foo", failed(1));
+		}
+		Thread.sleep(50);
+		try (MappedFileRetryContextCache cache = new MappedFileRetryContextCache(file, this.policy)) {
+			cache.setExpireAfter(20);
+			assertThat(cache.containsKey("foo")).isFalse();
+		}
+	}
+
+	@Test
+	public void testCapacityHoldsUnderConcurrentPuts() throws Exception {
+		Path file = this.directory.resolve("retry.log");
+		AtomicInteger accepted = new AtomicInteger();
+		try (MappedFileRetryContextCache cache = new MappedFileRetryContextCache(file, this.policy)) {
+			cache.setCapacity(10);
+			CountDownLatch start = new CountDownLatch(1);
+			ExecutorService executor = Executors.newFixedThreadPool(8);
+			try {
+				List<Future<?>> results = new ArrayList<>();
+				for (int t = 0; t < 8; t++) {
+					int thread = t;
+					results.add(executor.submit(() -> {
+						start.await();
+						for (int i = 0; i < 10; i++) {
+							try {
+								cache.put("message-" + thread + "-" + i, new RetryContextSupport(null));
+								accepted.incrementAndGet();
+							}
+							catch (RetryCacheCapacityExceededException ex) {
+								// expected once full
+							}
+						}
+						return null;
+					}));
+				}
+				start.countDown();
+				for (Future<?> result : results) {
+					result.get();
+				}
+			}
+			finally {
+				executor.shutdown();
+			}
+		}
+		assertThat(accepted.get()).isEqualTo(10);
+		try (MappedFileRetryContextCache cache = new MappedFileRetryContextCache(file, this.policy)) {
+			int recovered = 0;
+			for (int t = 0; t < 8; t++) {
+				for (int i = 0; i < 10; i++) {
+					if (cache.containsKey("message-" + t + "-" + i)) {
+						recovered++;
+					}
+				}
+			}
+			assertThat(recovered).isEqualTo(10);
+		}
+	}
+
+	@Test
+	public void testNotALog() throws Exception {
+		Path file = this.directory.resolve("retry.log");
+		Files.writeString(file, "not a log");
+		assertThatIllegalStateException().isThrownBy(() -> new MappedFileRetryContextCache(file, this.policy));
+	}
+
+	private static List<ByteBuffer> records(byte[] log) {
+		ByteBuffer buffer = ByteBuffer.wrap(log);
+		List<ByteBuffer> records = new ArrayList<>();
+		int position = 8;
+		while (position + 8 <= log.length) {
+			int length = buffer.getInt(position);
+			if (length <= 0) {
+				break;
+			}
+			records.add(buffer.slice(position + 8, length));
+			position += 8 + length;
+		}
+		return records;
+	}
+
+	private RetryTemplate template(MappedFileRetryContextCache cache) {
+		RetryTemplate template = new RetryTemplate();
+		template.setRetryPolicy(this.policy);
+		template.setRetryContextCache(cache);
+		return template;
+	}
+
+	private RetryContext failed(int count) {
+		RetryContextSupport context = new RetryContextSupport(null);
+		for (int i = 0; i < count; i++) {
+			context.registerThrowable(new IllegalArgumentException("Planned " + i));
+		}
+		return context;
+	}
+
+	private String fail(AtomicInteger calls) {
+		calls.incrementAndGet();
+		throw new IllegalStateException("Planned");
+	}
+
+	private static int indexOf(byte[] bytes, byte[] part) {
+		outer: for (int i = 0; i <= bytes.length - part.length; i++) {
+			for (int j = 0; j < part.length; j++) {
+				if (bytes[i + j] != part[j]) {
+					continue outer;
+				}
+			}
+			return i;
+		}
+		return -1;
+	}
+
+}
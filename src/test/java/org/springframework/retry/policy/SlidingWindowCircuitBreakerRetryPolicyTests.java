@@ -0,0 +1,346 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.policy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.classify.BinaryExceptionClassifier;
+import org.springframework.retry.RecoveryCallback;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.policy.SlidingWindowCircuitBreakerRetryPolicy.SlidingWindowType;
+import org.springframework.retry.policy.SlidingWindowCircuitBreakerRetryPolicy.State;
+import org.springframework.retry.support.AsyncRetryTemplate;
+import org.springframework.retry.support.DefaultRetryState;
+import org.springframework.retry.support.RetryTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+public class SlidingWindowCircuitBreakerRetryPolicyTests {
+
+	private static final String RECOVERED = "RECOVERED";
+
+	private static final String RESULT = "RESULT";
+
+	private final RecoveryCallback<String> recovery = context -> RECOVERED;
+
+	private final AtomicInteger attempts = new AtomicInteger();
+
+	private SlidingWindowCircuitBreakerRetryPolicy policy;
+
+	private RetryTemplate retryTemplate;
+
+	@BeforeEach
+	public void init() {
+		this.policy = new SlidingWindowCircuitBreakerRetryPolicy();
+		this.policy.setSlidingWindowSize(4);
+		this.policy.setMinimumNumberOfCalls(4);
+		this.policy.setFailureRateThreshold(50);
+		this.policy.setPermittedCallsInHalfOpenState(2);
+		this.retryTemplate = new RetryTemplate();
+		this.retryTemplate.setRetryPolicy(this.policy);
+	}
+
+	@Test
+	public void testOpensWhenFailureRateReached() throws Exception {
+		assertThat(call(false)).isEqualTo(RESULT);
+		assertThat(call(true)).isEqualTo(RECOVERED);
+		assertThat(call(false)).isEqualTo(RESULT);
+		assertThat(this.policy.getState()).isEqualTo(State.CLOSED);
+		assertThat(this.policy.getFailureRate()).isEqualTo(-1);
+		assertThat(call(true)).isEqualTo(RECOVERED);
+		assertThat(this.policy.getState()).isEqualTo(State.OPEN);
+		assertThat(this.attempts.get()).isEqualTo(4);
+		// short-circuited: the callback is not invoked any more
+		assertThat(call(false)).isEqualTo(RECOVERED);
+		assertThat(this.attempts.get()).isEqualTo(4);
+	}
+
+	@Test
+	public void testSlidingWindowForgetsOldFailures() throws Exception {
+		call(true);
+		call(false);
+		call(false);
+		call(false);
+		assertThat(this.policy.getFailureRate()).isEqualTo(25);
+		// the first failure slides out of the window
+		call(false);
+		assertThat(this.policy.getFailureRate()).isZero();
+		call(true);
+		assertThat(this.policy.getState()).isEqualTo(State.CLOSED);
+	}
+
+	@Test
+	public void testTimeBasedWindowForgetsOldSeconds() throws Exception {
+		this.policy.setSlidingWindowType(SlidingWindowType.TIME_BASED);
+		this.policy.setSlidingWindowSize(1);
+		call(true);
+		call(true);
+		call(true);
+		assertThat(this.policy.getFailureRate()).isEqualTo(-1);
+		Thread.sleep(1100);
+		call(true);
+		assertThat(this.policy.getState()).isEqualTo(State.CLOSED);
+		call(true);
+		call(true);
+		call(true);
+		assertThat(this.policy.getState()).isEqualTo(State.OPEN);
+	}
+
+	@Test
+	public void testOpensWhenSlowCallRateReached() throws Exception {
+		this.policy.setFailureRateThreshold(100);
+		this.policy.setSlowCallDurationThreshold(20);
+		this.policy.setSlowCallRateThreshold(50);
+		this.retryTemplate.execute(slowCallback(), this.recovery);
+		call(false);
+		call(false);
+		assertThat(this.policy.getState()).isEqualTo(State.CLOSED);
+		this.retryTemplate.execute(slowCallback(), this.recovery);
+		assertThat(this.policy.getState()).isEqualTo(State.OPEN);
+		assertThat(call(false)).isEqualTo(RECOVERED);
+		assertThat(this.attempts.get()).isEqualTo(4);
+	}
+
+	@Test
+	public void testOneAttemptPerCall() throws Exception {
+		assertThat(call(true)).isEqualTo(RECOVERED);
+		assertThat(this.attempts.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void testHalfOpenClosesAfterSuccessfulProbes() throws Exception {
+		this.policy.setWaitDurationInOpenState(100);
+		tripOpen();
+		assertThat(call(false)).isEqualTo(RECOVERED);
+		Thread.sleep(150);
+		assertThat(call(false)).isEqualTo(RESULT);
+		assertThat(this.policy.getState()).isEqualTo(State.HALF_OPEN);
+		assertThat(call(false)).isEqualTo(RESULT);
+		assertThat(this.policy.getState()).isEqualTo(State.CLOSED);
+	}
+
+	@Test
+	public void testHalfOpenReopensAfterFailedProbes() throws Exception {
+		this.policy.setWaitDurationInOpenState(100);
+		tripOpen();
+		Thread.sleep(150);
+		assertThat(call(true)).isEqualTo(RECOVERED);
+		assertThat(call(true)).isEqualTo(RECOVERED);
+		assertThat(this.policy.getState()).isEqualTo(State.OPEN);
+		int before = this.attempts.get();
+		assertThat(call(false)).isEqualTo(RECOVERED);
+		assertThat(this.attempts.get()).isEqualTo(before);
+	}
+
+	@Test
+	public void testIgnoredExceptionsAreNotFailures() throws Exception {
+		this.policy.setFailureClassifier(new BinaryExceptionClassifier(false));
+		for (int i = 0; i < 8; i++) {
+			call(true);
+		}
+		assertThat(this.policy.getState()).isEqualTo(State.CLOSED);
+		assertThat(this.policy.getFailureRate()).isZero();
+	}
+
+	@Test
+	public void testSharedContextWithStatefulRetry() throws Exception {
+		DefaultRetryState state = new DefaultRetryState("circuit", new BinaryExceptionClassifier(false));
+		for (int i = 0; i < 4; i++) {
+			this.retryTemplate.execute(callback(true), this.recovery, state);
+		}
+		assertThat(this.policy.getState()).isEqualTo(State.OPEN);
+		assertThat(this.retryTemplate.execute(callback(false), this.recovery, state)).isEqualTo(RECOVERED);
+		assertThat(this.attempts.get()).isEqualTo(4);
+	}
+
+	@Test
+	public void testStatefulRetryThatRethrows() throws Exception {
+		DefaultRetryState state = new DefaultRetryState("circuit");
+		assertThatIllegalStateException()
+			.isThrownBy(() -> this.retryTemplate.execute(callback(true), this.recovery, state));
+		// the failed call is forgotten although the context was not closed
+		assertThat(this.retryTemplate.execute(callback(false), this.recovery, state)).isEqualTo(RESULT);
+		assertThatIllegalStateException()
+			.isThrownBy(() -> this.retryTemplate.execute(callback(true), this.recovery, state));
+		assertThat(this.retryTemplate.execute(callback(false), this.recovery, state)).isEqualTo(RESULT);
+		assertThat(this.attempts.get()).isEqualTo(4);
+		// both failures and both successes were recorded
+		assertThat(this.policy.getState()).isEqualTo(State.OPEN);
+	}
+
+	@Test
+	public void testCircuitPerKeyWithStatefulRetry() throws Exception {
+		this.policy.setCircuitPerKey(true);
+		DefaultRetryState foo = new DefaultRetryState("foo", new BinaryExceptionClassifier(false));
+		DefaultRetryState bar = new DefaultRetryState("bar", new BinaryExceptionClassifier(false));
+		for (int i = 0; i < 4; i++) {
+			this.retryTemplate.execute(callback(true), this.recovery, foo);
+		}
+		assertThat(this.retryTemplate.execute(callback(false), this.recovery, foo)).isEqualTo(RECOVERED);
+		assertThat(this.retryTemplate.execute(callback(false), this.recovery, bar)).isEqualTo(RESULT);
+		assertThat(this.attempts.get()).isEqualTo(5);
+		assertThat(this.policy.getState()).isEqualTo(State.CLOSED);
+	}
+
+	@Test
+	public void testCircuitPerKeyRecordsSuccessesFromFirstCall() throws Exception {
+		this.policy.setCircuitPerKey(true);
+		this.policy.setMinimumNumberOfCalls(2);
+		this.policy.setFailureRateThreshold(60);
+		DefaultRetryState foo = new DefaultRetryState("foo", new BinaryExceptionClassifier(false));
+		for (int i = 0; i < 2; i++) {
+			assertThat(this.retryTemplate.execute(callback(false), this.recovery, foo)).isEqualTo(RESULT);
+		}
+		for (int i = 0; i < 2; i++) {
+			assertThat(this.retryTemplate.execute(callback(true), this.recovery, foo)).isEqualTo(RECOVERED);
+		}
+		// two failures in four calls
+		assertThat(this.retryTemplate.execute(callback(false), this.recovery, foo)).isEqualTo(RESULT);
+		assertThat(this.attempts.get()).isEqualTo(5);
+	}
+
+	@Test
+	public void testNestedCallsAreRecordedSeparately() throws Exception {
+		for (int i = 0; i < 2; i++) {
+			String result = this.retryTemplate.execute(context -> {
+				this.attempts.incrementAndGet();
+				assertThat(call(true)).isEqualTo(RECOVERED);
+				return RESULT;
+			}, this.recovery);
+			assertThat(result).isEqualTo(RESULT);
+		}
+		assertThat(this.attempts.get()).isEqualTo(4);
+		assertThat(this.policy.getState()).isEqualTo(State.OPEN);
+	}
+
+	@Test
+	public void testOutcomesCompletedOnAnotherThread() throws Exception {
+		ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+		try {
+			AsyncRetryTemplate template = new AsyncRetryTemplate(executor);
+			template.setRetryPolicy(this.policy);
+			for (int i = 0; i < 4; i++) {
+				CompletableFuture<String> result = template.execute(context -> CompletableFuture.supplyAsync(() -> {
+					this.attempts.incrementAndGet();
+					throw new IllegalStateException("Planned");
+				}, executor), this.recovery);
+				assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(RECOVERED);
+			}
+			assertThat(this.attempts.get()).isEqualTo(4);
+			assertThat(this.policy.getState()).isEqualTo(State.OPEN);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testHalfOpenLimitsConcurrentProbes() throws Exception {
+		this.policy.setWaitDurationInOpenState(50);
+		tripOpen();
+		Thread.sleep(100);
+		int threads = 16;
+		CountDownLatch ready = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger probes = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				results.add(executor.submit(() -> {
+					ready.await();
+					return this.retryTemplate.execute(context -> {
+						probes.incrementAndGet();
+						release.await(5, TimeUnit.SECONDS);
+						return RESULT;
+					}, this.recovery);
+				}));
+			}
+			ready.countDown();
+			// all but the permitted probes are rejected without waiting for them
+			while (countDone(results) < threads - 2) {
+				Thread.sleep(10);
+			}
+			assertThat(probes.get()).isEqualTo(2);
+			release.countDown();
+			int successes = 0;
+			for (Future<String> result : results) {
+				if (RESULT.equals(result.get(5, TimeUnit.SECONDS))) {
+					successes++;
+				}
+			}
+			assertThat(successes).isEqualTo(2);
+			assertThat(this.policy.getState()).isEqualTo(State.CLOSED);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private int countDone(List<Future<String>> results) {
+		int done = 0;
+		for (Future<String> result : results) {
+			if (result.isDone()) {
+				done++;
+			}
+		}
+		return done;
+	}
+
+	private void tripOpen() throws Exception {
+		for (int i = 0; i < 4; i++) {
+			call(true);
+		}
+		assertThat(this.policy.getState()).isEqualTo(State.OPEN);
+	}
+
+	private String call(boolean fail) throws Exception {
+		return this.retryTemplate.execute(callback(fail), this.recovery);
+	}
+
+	private RetryCallback<String, Exception> slowCallback() {
+		return context -> {
+			this.attempts.incrementAndGet();
+			Thread.sleep(30);
+			return RESULT;
+		};
+	}
+
+	private RetryCallback<String, Exception> callback(boolean fail) {
+		return context -> {
+			this.attempts.incrementAndGet();
+			if (fail) {
+				throw new IllegalStateException("Planned");
+			}
+			return RESULT;
+		};
+	}
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.stats;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.retry.RetryStatistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BoundedStatisticsRepositoryTests {
+
+	private final BoundedStatisticsRepository repository = new BoundedStatisticsRepository();
+
+	@Test
+	public void countsPerName() {
+		this.repository.addStarted("foo");
+		this.repository.addStarted("foo");
+		this.repository.addError("foo");
+		this.repository.addStarted("bar");
+		assertThat(this.repository.findOne("foo").getStartedCount()).isEqualTo(2);
+		assertThat(this.repository.findOne("foo").getErrorCount()).isEqualTo(1);
+		assertThat(this.repository.findOne("bar").getStartedCount()).isEqualTo(1);
+		assertThat(this.repository.findOne("baz")).isNull();
+		assertThat(this.repository.findAll()).extracting(RetryStatistics::getName)
+			.containsExactlyInAnyOrder("foo", "bar");
+	}
+
+	@Test
+	public void boundedNumberOfEntries() throws Exception {
+		this.repository.setMaxEntries(100);
+		this.repository.addStarted("hot");
+		for (int i = 0; i < 1000; i++) {
+			if (i % 50 == 0) {
+				Thread.sleep(2);
+				this.repository.addStarted("hot");
+			}
+			this.repository.addStarted("label-" + i);
+		}
+		assertThat(this.repository.size()).isLessThanOrEqualTo(100);
+		// recently used statistics are kept
+		assertThat(this.repository.findOne("hot").getStartedCount()).isEqualTo(21);
+		assertThat(this.repository.findOne("label-999")).isNotNull();
+		assertThat(this.repository.findOne("label-0")).isNull();
+	}
+
+	@Test
+	public void idleEntriesExpire() throws Exception {
+		this.repository.setIdleTimeout(20);
+		this.repository.addStarted("foo");
+		assertThat(this.repository.findOne("foo")).isNotNull();
+		Thread.sleep(50);
+		assertThat(this.repository.findOne("foo")).isNull();
+		this.repository.addStarted("bar");
+		Thread.sleep(50);
+		// expired without a new name being added
+		assertThat(this.repository.findAll()).isEmpty();
+		assertThat(this.repository.size()).isZero();
+		this.repository.addStarted("bar");
+		assertThat(this.repository.size()).isEqualTo(1);
+	}
+
+}
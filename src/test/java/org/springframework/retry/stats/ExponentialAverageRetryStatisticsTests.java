@@ -20,8 +20,6 @@ import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
-import org.springframework.test.util.ReflectionTestUtils;
-
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -87,13 +85,32 @@ public class ExponentialAverageRetryStatisticsTests {
 	}
 
 	@Test
-	public void oldValuesDecay() {
+	public void oldValuesDecay() throws Exception {
+		stats.setWindow(2);
 		stats.incrementAbortCount();
 		assertThat(stats.getAbortCount()).isEqualTo(1);
-		// Wind back time to epoch 0
-		ReflectionTestUtils.setField(ReflectionTestUtils.getField(stats, "abort"), "lastTime", 0);
-		// rounds down to 1
+		Thread.sleep(50);
+		// rounds down to 0
 		assertThat(stats.getRollingAbortCount()).isEqualTo(0);
 	}
 
+	@Test
+	public void concurrentIncrements() throws Exception {
+		Thread[] threads = new Thread[4];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(() -> {
+				for (int j = 0; j < 1000; j++) {
+					stats.incrementStartedCount();
+				}
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertThat(stats.getStartedCountAsLong()).isEqualTo(4000);
+		// the window is 15 seconds, so hardly anything decayed
+		assertThat(stats.getRollingStartedCount()).isBetween(3900, 4000);
+	}
+
 }
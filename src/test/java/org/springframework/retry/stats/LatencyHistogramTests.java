@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.stats;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+
+public class LatencyHistogramTests {
+
+	private final LatencyHistogram histogram = new LatencyHistogram();
+
+	@Test
+	public void empty() {
+		assertThat(this.histogram.getCount()).isZero();
+		assertThat(this.histogram.getMean()).isZero();
+		assertThat(this.histogram.getValueAtPercentile(99)).isZero();
+	}
+
+	@Test
+	public void smallValuesAreExact() {
+		for (int i = 0; i < 100; i++) {
+			this.histogram.record(i % 10);
+		}
+		assertThat(this.histogram.getCount()).isEqualTo(100);
+		assertThat(this.histogram.getValueAtPercentile(50)).isEqualTo(4);
+		assertThat(this.histogram.getValueAtPercentile(100)).isEqualTo(9);
+		assertThat(this.histogram.getMax()).isEqualTo(9);
+		assertThat(this.histogram.getMean()).isEqualTo(4.5);
+	}
+
+	@Test
+	public void bucketsCoverAllValues() {
+		long previous = -1;
+		for (int index = 0; index < 672; index++) {
+			long highest = this.histogram.highestValueOf(index);
+			assertThat(this.histogram.indexOf(previous + 1)).isEqualTo(index);
+			assertThat(this.histogram.indexOf(highest)).isEqualTo(index);
+			previous = highest;
+		}
+		assertThat(this.histogram.indexOf(Long.MAX_VALUE)).isEqualTo(671);
+	}
+
+	@Test
+	public void higherPrecision() {
+		LatencyHistogram precise = new LatencyHistogram(8);
+		for (long value = 0; value < 512; value++) {
+			assertThat(precise.highestValueOf(precise.indexOf(value))).isEqualTo(value);
+		}
+		Random random = new Random(42);
+		for (int i = 0; i < 10000; i++) {
+			long value = (long) Math.exp(13.8 + random.nextGaussian());
+			assertThat((double) precise.highestValueOf(precise.indexOf(value))).isCloseTo(value, within(value / 256.0));
+		}
+	}
+
+	@Test
+	public void merge() {
+		LatencyHistogram other = new LatencyHistogram();
+		for (int i = 0; i < 10; i++) {
+			this.histogram.record(i);
+			other.record(i + 10);
+		}
+		this.histogram.merge(other);
+		assertThat(this.histogram.getCount()).isEqualTo(20);
+		assertThat(this.histogram.getMax()).isEqualTo(19);
+		assertThat(this.histogram.getMean()).isEqualTo(9.5);
+		assertThat(this.histogram.getValueAtRank(0)).isZero();
+		assertThat(this.histogram.getValueAtRank(15)).isEqualTo(15);
+		assertThat(this.histogram.getValueAtPercentile(50)).isEqualTo(9);
+		assertThatIllegalArgumentException().isThrownBy(() -> this.histogram.merge(new LatencyHistogram(8)));
+	}
+
+	@Test
+	public void percentilesWithinRelativeError() {
+		Random random = new Random(42);
+		long[] values = new long[10000];
+		for (int i = 0; i < values.length; i++) {
+			// log-normally distributed latencies around a millisecond
+			values[i] = (long) Math.exp(13.8 + random.nextGaussian());
+			this.histogram.record(values[i]);
+		}
+		Arrays.sort(values);
+		for (double percentile : new double[] { 50, 90, 99, 99.9 }) {
+			long expected = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+			assertThat((double) this.histogram.getValueAtPercentile(percentile)).isCloseTo(expected,
+					within(expected * 0.0625));
+		}
+		assertThat(this.histogram.getValueAtPercentile(100)).isEqualTo(values[values.length - 1]);
+	}
+
+	@Test
+	public void negativeValuesAreZero() {
+		this.histogram.record(-5);
+		assertThat(this.histogram.getValueAtPercentile(100)).isZero();
+	}
+
+	@Test
+	public void invalidPercentile() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.histogram.getValueAtPercentile(101));
+	}
+
+}
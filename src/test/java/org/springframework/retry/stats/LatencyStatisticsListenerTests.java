@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.stats;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.retry.backoff.FixedBackOffPolicy;
+import org.springframework.retry.backoff.ThreadWaitSleeper;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+import org.springframework.retry.support.RetryTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LatencyStatisticsListenerTests {
+
+	private final DefaultStatisticsRepository repository = new DefaultStatisticsRepository();
+
+	private final LatencyStatisticsListener listener = new LatencyStatisticsListener(this.repository);
+
+	@Test
+	public void latenciesRecorded() throws Exception {
+		DefaultRetryStatisticsFactory factory = new DefaultRetryStatisticsFactory();
+		factory.setRecordLatencies(true);
+		this.repository.setRetryStatisticsFactory(factory);
+		FixedBackOffPolicy backOff = new FixedBackOffPolicy();
+		backOff.setBackOffPeriod(20);
+		backOff.setSleeper(LatencyStatisticsListener.timing(new ThreadWaitSleeper()));
+		RetryTemplate template = new RetryTemplate();
+		template.setRetryPolicy(new SimpleRetryPolicy(3));
+		template.setBackOffPolicy(backOff);
+		template.setListeners(new RetryListener[] { this.listener });
+
+		int[] attempts = new int[1];
+		template.execute(context -> {
+			context.setAttribute(RetryContext.NAME, "test");
+			Thread.sleep(5);
+			if (++attempts[0] < 3) {
+				throw new IllegalStateException("Planned");
+			}
+			return null;
+		});
+
+		LatencyRetryStatistics statistics = (LatencyRetryStatistics) this.repository.findOne("test");
+		assertThat(statistics.getCompleteCount()).isEqualTo(1);
+		assertThat(statistics.getAttemptLatency().getCount()).isEqualTo(3);
+		assertThat(statistics.getBackOffTime().getCount()).isEqualTo(2);
+		assertThat(statistics.getCallLatency().getCount()).isEqualTo(1);
+		LatencyHistogram attemptLatency = statistics.getAttemptLatency();
+		LatencyHistogram backOffTime = statistics.getBackOffTime();
+		LatencyHistogram callLatency = statistics.getCallLatency();
+		assertThat(attemptLatency.getMax()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(5));
+		assertThat(backOffTime.getValueAtPercentile(50)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(19));
+		// the call spans the attempts and the back offs, which are not counted in the
+		// attempts: otherwise the parts would add up to well over the call
+		assertThat(callLatency.getMax()).isGreaterThan(attemptLatency.getMax()).isGreaterThan(backOffTime.getMax());
+		double parts = attemptLatency.getMean() * attemptLatency.getCount()
+				+ backOffTime.getMean() * backOffTime.getCount();
+		assertThat((double) callLatency.getMax()).isGreaterThanOrEqualTo(parts * 0.9);
+	}
+
+	@Test
+	public void countsOnlyWithoutLatencyStatistics() throws Exception {
+		RetryTemplate template = new RetryTemplate();
+		template.setListeners(new RetryListener[] { this.listener });
+		template.execute(context -> {
+			context.setAttribute(RetryContext.NAME, "test");
+			return null;
+		});
+		assertThat(this.repository.findOne("test")).isNotInstanceOf(LatencyRetryStatistics.class);
+		assertThat(this.repository.findOne("test").getCompleteCount()).isEqualTo(1);
+	}
+
+}
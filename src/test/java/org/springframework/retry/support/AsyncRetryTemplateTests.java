@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.retry.TerminatedRetryException;
+import org.springframework.retry.backoff.FixedBackOffPolicy;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class AsyncRetryTemplateTests {
+
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+	@AfterEach
+	public void shutdown() {
+		this.scheduler.shutdownNow();
+	}
+
+	@Test
+	public void testSuccessAfterFailedStages() throws Exception {
+		AsyncRetryTemplate template = new AsyncRetryTemplate(this.scheduler);
+		template.setRetryPolicy(new SimpleRetryPolicy(3));
+		AtomicInteger attempts = new AtomicInteger();
+		CompletableFuture<String> result = template.execute(context -> {
+			if (attempts.incrementAndGet() < 3) {
+				return CompletableFuture.failedFuture(new IllegalStateException("Planned"));
+			}
+			return CompletableFuture.completedFuture("foo");
+		});
+		assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("foo");
+		assertThat(attempts.get()).isEqualTo(3);
+	}
+
+	@Test
+	public void testBackOffDoesNotBlockCaller() throws Exception {
+		AsyncRetryTemplate template = new AsyncRetryTemplate(this.scheduler);
+		FixedBackOffPolicy backOffPolicy = new FixedBackOffPolicy();
+		backOffPolicy.setBackOffPeriod(200);
+		template.setBackOffPolicy(backOffPolicy);
+		AtomicInteger attempts = new AtomicInteger();
+		long start = System.currentTimeMillis();
+		CompletableFuture<String> result = template.execute(context -> {
+			if (attempts.incrementAndGet() < 2) {
+				return CompletableFuture.failedFuture(new IllegalStateException("Planned"));
+			}
+			return CompletableFuture.completedFuture("foo");
+		});
+		assertThat(System.currentTimeMillis() - start).isLessThan(200);
+		assertThat(result.isDone()).isFalse();
+		assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("foo");
+		assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(200);
+	}
+
+	@Test
+	public void testExhaustedWithoutRecovery() {
+		AsyncRetryTemplate template = new AsyncRetryTemplate(this.scheduler);
+		template.setRetryPolicy(new SimpleRetryPolicy(2));
+		AtomicInteger attempts = new AtomicInteger();
+		CompletableFuture<String> result = template.execute(context -> {
+			attempts.incrementAndGet();
+			throw new IllegalArgumentException("Planned");
+		});
+		assertThatExceptionOfType(ExecutionException.class).isThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+			.withCauseInstanceOf(IllegalArgumentException.class);
+		assertThat(attempts.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void testExhaustedWithRecovery() throws Exception {
+		AsyncRetryTemplate template = new AsyncRetryTemplate(this.scheduler);
+		template.setRetryPolicy(new SimpleRetryPolicy(2));
+		CompletableFuture<String> result = template.execute(
+				context -> CompletableFuture.<String>failedFuture(new IllegalStateException("Planned")),
+				context -> "recovered after " + context.getRetryCount());
+		assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("recovered after 2");
+	}
+
+	@Test
+	public void testListenersAndContextRegistration() throws Exception {
+		AsyncRetryTemplate template = new AsyncRetryTemplate(this.scheduler);
+		List<String> calls = Collections.synchronizedList(new ArrayList<>());
+		List<RetryContext> registered = Collections.synchronizedList(new ArrayList<>());
+		template.setListeners(new RetryListener[] { new RetryListener() {
+
+			@Override
+			public <T, E extends Throwable> boolean open(RetryContext context, RetryCallback<T, E> callback) {
+				calls.add("open");
+				return true;
+			}
+
+			@Override
+			public <T, E extends Throwable> void onSuccess(RetryContext context, RetryCallback<T, E> callback,
+					T result) {
+				calls.add("success:" + result);
+			}
+
+			@Override
+			public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback,
+					Throwable throwable) {
+				calls.add("error:" + throwable.getMessage());
+			}
+
+			@Override
+			public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback,
+					Throwable throwable) {
+				calls.add("close:" + throwable);
+			}
+
+		} });
+		AtomicInteger attempts = new AtomicInteger();
+		CompletableFuture<String> result = template.execute(context -> {
+			registered.add(RetrySynchronizationManager.getContext());
+			CompletableFuture<String> stage = new CompletableFuture<>();
+			if (attempts.incrementAndGet() < 2) {
+				// complete the stage from another thread, as an asynchronous client would
+				CompletableFuture.runAsync(() -> stage.completeExceptionally(new IllegalStateException("Planned")));
+			}
+			else {
+				stage.complete("foo");
+			}
+			return stage;
+		});
+		assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("foo");
+		assertThat(calls).containsExactly("open", "error:Planned", "success:foo", "close:null");
+		assertThat(registered).hasSize(2).doesNotContainNull();
+		assertThat(registered.get(0)).isSameAs(registered.get(1));
+		assertThat(RetrySynchronizationManager.getContext()).isNull();
+	}
+
+	@Test
+	public void testOpenVetoedByListener() {
+		AsyncRetryTemplate template = new AsyncRetryTemplate(this.scheduler);
+		template.registerListener(new RetryListener() {
+
+			@Override
+			public <T, E extends Throwable> boolean open(RetryContext context, RetryCallback<T, E> callback) {
+				return false;
+			}
+
+		});
+		AtomicInteger attempts = new AtomicInteger();
+		CompletableFuture<String> result = template.execute(context -> {
+			attempts.incrementAndGet();
+			return CompletableFuture.completedFuture("foo");
+		});
+		assertThatExceptionOfType(ExecutionException.class).isThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+			.withCauseInstanceOf(TerminatedRetryException.class);
+		assertThat(attempts.get()).isZero();
+	}
+
+	@Test
+	public void testManyConcurrentRetriesShareOneThread() throws Exception {
+		AsyncRetryTemplate template = new AsyncRetryTemplate(this.scheduler);
+		FixedBackOffPolicy backOffPolicy = new FixedBackOffPolicy();
+		backOffPolicy.setBackOffPeriod(10);
+		template.setBackOffPolicy(backOffPolicy);
+		List<CompletableFuture<Integer>> results = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			int value = i;
+			AtomicInteger attempts = new AtomicInteger();
+			results.add(template.execute(context -> {
+				CompletionStage<Integer> stage = (attempts.incrementAndGet() < 3)
+						? CompletableFuture.failedFuture(new IllegalStateException("Planned"))
+						: CompletableFuture.completedFuture(value);
+				return stage;
+			}));
+		}
+		CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+		for (int i = 0; i < results.size(); i++) {
+			assertThat(results.get(i).get()).isEqualTo(i);
+		}
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BoundedConcurrentMapTests {
+
+	private final BoundedConcurrentMap<Integer, String> map = new BoundedConcurrentMap<>(10);
+
+	@Test
+	public void testTrimsLeastRecentlyUsed() {
+		List<Integer> evicted = new ArrayList<>();
+		this.map.setEvictionCallback((key, value) -> evicted.add(key));
+		for (int i = 0; i < 10; i++) {
+			this.map.put(i, "value-" + i);
+		}
+		this.map.get(0);
+		// looking up without using does not save an entry
+		this.map.peek(1);
+		this.map.put(10, "value-10");
+		assertThat(this.map.size()).isEqualTo(9);
+		assertThat(evicted).containsExactly(1, 2);
+		assertThat(this.map.getEvictionCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void testEvictLastOnlyWhenOthersAreNotEnough() {
+		this.map.setMaxSize(2);
+		this.map.setEvictLast(value -> value.startsWith("pinned"));
+		this.map.put(0, "pinned-0");
+		this.map.put(1, "pinned-1");
+		this.map.put(2, "value-2");
+		assertThat(this.map.peek(0)).isNotNull();
+		assertThat(this.map.peek(2)).isNull();
+		this.map.put(3, "pinned-3");
+		assertThat(this.map.size()).isEqualTo(2);
+		assertThat(this.map.peek(0)).isNull();
+	}
+
+	@Test
+	public void testExpiresIdleValues() throws Exception {
+		this.map.setExpireAfterAccess(20);
+		this.map.put(0, "value-0");
+		this.map.put(1, "value-1");
+		assertThat(this.map.computeIfAbsent(0, key -> "other")).isEqualTo("value-0");
+		Thread.sleep(50);
+		assertThat(this.map.values()).isEmpty();
+		assertThat(this.map.size()).isZero();
+		assertThat(this.map.computeIfAbsent(0, key -> "other")).isEqualTo("other");
+		assertThat(this.map.getEvictionCount()).isEqualTo(2);
+	}
+
+}
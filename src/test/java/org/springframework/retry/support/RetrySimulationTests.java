@@ -26,6 +26,7 @@ import org.springframework.retry.backoff.FixedBackOffPolicy;
 import org.springframework.retry.policy.SimpleRetryPolicy;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withinPercentage;
 
 public class RetrySimulationTests {
 
@@ -92,4 +93,57 @@ public class RetrySimulationTests {
 		assertThat(simulation.getPercentiles().size()).isGreaterThan(4);
 	}
 
+	@Test
+	public void testParallelSimulationMatchesSerialForDeterministicBackoff() {
+		SimpleRetryPolicy retryPolicy = new SimpleRetryPolicy();
+		retryPolicy.setMaxAttempts(5);
+
+		ExponentialBackOffPolicy backOffPolicy = new ExponentialBackOffPolicy();
+		backOffPolicy.setMultiplier(2);
+		backOffPolicy.setMaxInterval(30000);
+		backOffPolicy.setInitialInterval(100);
+
+		RetrySimulator simulator = new RetrySimulator(backOffPolicy, retryPolicy);
+		RetrySimulation serial = simulator.executeSimulation(1000);
+		RetrySimulation parallel = simulator.executeParallelSimulation(100000);
+
+		assertThat(parallel.getSequenceCount()).isEqualTo(100000);
+		assertThat(parallel.getPercentiles()).isEqualTo(serial.getPercentiles());
+		assertThat(parallel.getTotalSleepPercentiles()).containsOnly(1500d);
+		assertThat(parallel.getLongestTotalSleepSequence().getSleeps())
+			.isEqualTo(Arrays.asList(100l, 200l, 400l, 800l));
+	}
+
+	@Test
+	public void testParallelSimulationApproximatesRandomBackoff() {
+		SimpleRetryPolicy retryPolicy = new SimpleRetryPolicy();
+		retryPolicy.setMaxAttempts(5);
+
+		ExponentialBackOffPolicy backOffPolicy = new ExponentialRandomBackOffPolicy();
+		backOffPolicy.setMultiplier(2);
+		backOffPolicy.setMaxInterval(30000);
+		backOffPolicy.setInitialInterval(100);
+
+		RetrySimulator simulator = new RetrySimulator(backOffPolicy, retryPolicy);
+		RetrySimulation serial = simulator.executeSimulation(100000);
+		RetrySimulation parallel = simulator.executeParallelSimulation(100000);
+
+		for (double p : new double[] { 0.1, 0.5, 0.9, 0.99 }) {
+			assertThat(parallel.getPercentile(p)).isCloseTo(serial.getPercentile(p), withinPercentage(3));
+			assertThat(parallel.getTotalSleepPercentile(p)).isCloseTo(serial.getTotalSleepPercentile(p),
+					withinPercentage(3));
+		}
+		assertThat(parallel.getLongestTotalSleepSequence().getTotalSleep()).isLessThanOrEqualTo(3000);
+	}
+
+	@Test
+	public void testSimulationWithoutRetries() {
+		RetrySimulator simulator = new RetrySimulator(new FixedBackOffPolicy(), new SimpleRetryPolicy(1));
+		RetrySimulation simulation = simulator.executeParallelSimulation(10);
+		assertThat(simulation.getSequenceCount()).isEqualTo(10);
+		assertThat(simulation.getPercentile(0.5)).isZero();
+		assertThat(simulation.getTotalSleepPercentile(1)).isZero();
+		assertThat(simulation.getLongestTotalSleepSequence().getSleeps()).isEmpty();
+	}
+
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.support;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.retry.RetryPolicy;
+import org.springframework.retry.backoff.FixedBackOffPolicy;
+import org.springframework.retry.policy.NeverRetryPolicy;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+import org.springframework.retry.support.RetryStormSimulation.Window;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class RetryStormSimulationTests {
+
+	private final FixedBackOffPolicy backOffPolicy = new FixedBackOffPolicy();
+
+	private final SimulatedDownstream downstream = new SimulatedDownstream();
+
+	public RetryStormSimulationTests() {
+		this.backOffPolicy.setBackOffPeriod(10);
+	}
+
+	@Test
+	public void healthyDownstreamIsNotAmplified() {
+		RetryStormSimulation simulation = simulate(new SimpleRetryPolicy(3));
+		assertThat(simulation.getAmplification()).isEqualTo(1.0);
+		assertThat(simulation.getFailures()).isZero();
+		// 100 clients calling every second
+		assertThat(simulation.getGoodput()).isCloseTo(100, within(10.0));
+		assertThat(simulation.getRecoveryTime()).isZero();
+		assertThat(simulation.getTimeline()).hasSize(60);
+	}
+
+	@Test
+	public void retriesAmplifyLoadDuringOutage() {
+		this.downstream.setOutage(10000, 5000);
+		RetryStormSimulation simulation = simulate(new SimpleRetryPolicy(3));
+		for (Window window : simulation.getTimeline()) {
+			if (window.getStart() >= 11000 && window.getEnd() <= 14000) {
+				assertThat(window.getAmplification()).isCloseTo(3, within(0.3));
+				assertThat(window.getSuccesses()).isZero();
+			}
+			else if (window.getEnd() <= 10000 || window.getStart() >= 16000) {
+				assertThat(window.getAmplification()).isCloseTo(1, within(0.1));
+			}
+		}
+		assertThat(simulation.getRecoveryTime()).isBetween(0L, 1000L);
+	}
+
+	@Test
+	public void retryStormPreventsRecovery() {
+		// 150 calls per second against a capacity of 200
+		this.downstream.setConcurrency(10);
+		this.downstream.setTimeout(500);
+		this.downstream.setOutage(10000, 5000);
+		RetryStormSimulation withoutRetry = simulate(new NeverRetryPolicy(), 150);
+		RetryStormSimulation withRetry = simulate(new SimpleRetryPolicy(3), 150);
+		assertThat(withoutRetry.getRecoveryTime()).isBetween(0L, 1000L);
+		assertThat(withRetry.getRecoveryTime()).isEqualTo(-1);
+		assertThat(withRetry.getAmplification()).isGreaterThan(2);
+		assertThat(withRetry.getGoodput()).isLessThan(withoutRetry.getGoodput());
+	}
+
+	@Test
+	public void noRecoveryTimeWithoutBaseline() {
+		// the first window is ramp up, the outage starts in the second
+		this.downstream.setOutage(1500, 5000);
+		RetryStormSimulation simulation = simulate(new NeverRetryPolicy());
+		assertThat(simulation.getSuccesses()).isPositive();
+		assertThat(simulation.getRecoveryTime()).isEqualTo(-1);
+	}
+
+	@Test
+	public void repeatableWithSeed() {
+		this.downstream.setErrorRate(load -> 0.1);
+		RetryStormSimulation first = simulate(new SimpleRetryPolicy(3));
+		RetryStormSimulation second = simulate(new SimpleRetryPolicy(3));
+		assertThat(first.toString()).isEqualTo(second.toString());
+		assertThat(first.getAmplification()).isCloseTo(1.11, within(0.02));
+	}
+
+	private RetryStormSimulation simulate(RetryPolicy retryPolicy) {
+		return simulate(retryPolicy, 100);
+	}
+
+	private RetryStormSimulation simulate(RetryPolicy retryPolicy, int clients) {
+		RetryStormSimulator simulator = new RetryStormSimulator(this.backOffPolicy, retryPolicy, this.downstream);
+		simulator.setClients(clients);
+		return simulator.executeSimulation();
+	}
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.retry.support;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.backoff.FixedBackOffPolicy;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+public class RetryTemplateFlightRecorderTests {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	public void eventsNotCommittedWithoutRecording() {
+		assertThat(new RetryAttemptEvent().shouldCommit()).isFalse();
+	}
+
+	@Test
+	public void attemptsBackOffsAndRecovery() throws Exception {
+		RetryTemplate template = new RetryTemplate();
+		template.setRetryPolicy(new SimpleRetryPolicy(3));
+		FixedBackOffPolicy backOff = new FixedBackOffPolicy();
+		backOff.setBackOffPeriod(10);
+		template.setBackOffPolicy(backOff);
+		AtomicInteger attempts = new AtomicInteger();
+		List<RecordedEvent> events = record(
+				() -> template.execute(new FailingCallback(attempts), context -> "recovered"));
+		assertThat(events).extracting(event -> event.getEventType().getName())
+			.containsExactly("org.springframework.retry.Attempt", "org.springframework.retry.BackOff",
+					"org.springframework.retry.Attempt", "org.springframework.retry.BackOff",
+					"org.springframework.retry.Attempt", "org.springframework.retry.Exhausted");
+		assertThat(events).allSatisfy(event -> assertThat(event.getString("name")).isEqualTo("flaky"));
+		assertThat(events.get(2).getInt("attempt")).isEqualTo(2);
+		assertThat(events.get(2).getClass("exception").getName()).isEqualTo(IllegalStateException.class.getName());
+		assertThat(events.get(3).getDuration().toMillis()).isGreaterThanOrEqualTo(9);
+		assertThat(events.get(3).getClass("policy").getName()).isEqualTo(FixedBackOffPolicy.class.getName());
+		assertThat(events.get(5).getInt("attempt")).isEqualTo(3);
+		assertThat(events.get(5).getBoolean("recovered")).isTrue();
+	}
+
+	@Test
+	public void successfulAttempt() throws Exception {
+		RetryTemplate template = new RetryTemplate();
+		List<RecordedEvent> events = record(() -> template.execute(context -> "foo"));
+		assertThat(events).hasSize(1);
+		assertThat(events.get(0).getInt("attempt")).isEqualTo(1);
+		assertThat((Object) events.get(0).getClass("exception")).isNull();
+	}
+
+	@Test
+	public void exhaustedWithoutRecovery() throws Exception {
+		RetryTemplate template = new RetryTemplate();
+		template.setRetryPolicy(new SimpleRetryPolicy(2));
+		AtomicInteger attempts = new AtomicInteger();
+		List<RecordedEvent> events = record(() -> assertThatIllegalStateException()
+			.isThrownBy(() -> template.execute(new FailingCallback(attempts))));
+		RecordedEvent exhausted = events.get(events.size() - 1);
+		assertThat(exhausted.getEventType().getName()).isEqualTo("org.springframework.retry.Exhausted");
+		assertThat(exhausted.getBoolean("recovered")).isFalse();
+		assertThat(exhausted.getClass("lastException").getName()).isEqualTo(IllegalStateException.class.getName());
+	}
+
+	private List<RecordedEvent> record(ThrowingRunnable runnable) throws Exception {
+		Path file = this.dir.resolve("retry.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("org.springframework.retry.Attempt");
+			recording.enable("org.springframework.retry.BackOff");
+			recording.enable("org.springframework.retry.Exhausted");
+			recording.start();
+			runnable.run();
+			recording.stop();
+			recording.dump(file);
+		}
+		String thread = Thread.currentThread().getName();
+		return RecordingFile.readAllEvents(file)
+			.stream()
+			.filter(event -> event.getEventType().getName().startsWith("org.springframework.retry."))
+			.filter(event -> thread.equals(event.getThread().getJavaName()))
+			.sorted((one, two) -> one.getStartTime().compareTo(two.getStartTime()))
+			.toList();
+	}
+
+	private interface ThrowingRunnable {
+
+		void run() throws Exception;
+
+	}
+
+	private static final class FailingCallback implements RetryCallback<String, IllegalStateException> {
+
+		private final AtomicInteger attempts;
+
+		private FailingCallback(AtomicInteger attempts) {
+			this.attempts = attempts;
+		}
+
+		@Override
+		public String doWithRetry(RetryContext context) {
+			this.attempts.incrementAndGet();
+			throw new IllegalStateException("Planned");
+		}
+
+		@Override
+		public String getLabel() {
+			return "flaky";
+		}
+
+	}
+
+}
@@ -360,6 +360,45 @@ public class RetryTemplateTests {
 		assertThat(result).isEqualTo(RetryPolicy.NO_MAXIMUM_ATTEMPTS_SET);
 	}
 
+	@Test
+	public void testLazyRetryStateSkipsBackOffOnFirstSuccess() throws Throwable {
+		RetryTemplate retryTemplate = new RetryTemplate();
+		retryTemplate.setLazyRetryState(true);
+		MockBackOffStrategy backOff = new MockBackOffStrategy();
+		retryTemplate.setBackOffPolicy(backOff);
+		Object maxAttempts = retryTemplate.execute(context -> context.getAttribute(RetryContext.MAX_ATTEMPTS));
+		assertThat(maxAttempts).isNull();
+		assertThat(backOff.startCalls).isZero();
+	}
+
+	@Test
+	public void testLazyRetryStateStartsBackOffOnFirstFailure() throws Throwable {
+		RetryTemplate retryTemplate = new RetryTemplate();
+		retryTemplate.setLazyRetryState(true);
+		retryTemplate.setRetryPolicy(new SimpleRetryPolicy(3));
+		MockBackOffStrategy backOff = new MockBackOffStrategy();
+		retryTemplate.setBackOffPolicy(backOff);
+		AtomicInteger attempts = new AtomicInteger();
+		Object maxAttempts = retryTemplate.execute(context -> {
+			if (attempts.incrementAndGet() < 3) {
+				throw new IllegalStateException("Planned");
+			}
+			return context.getAttribute(RetryContext.MAX_ATTEMPTS);
+		});
+		assertThat(maxAttempts).isEqualTo(3);
+		assertThat(backOff.startCalls).isEqualTo(1);
+		assertThat(backOff.backOffCalls).isEqualTo(2);
+	}
+
+	@Test
+	public void testLazyRetryStateWhenExhausted() throws Throwable {
+		RetryTemplate retryTemplate = RetryTemplate.builder().maxAttempts(2).lazyRetryState().build();
+		Integer result = retryTemplate.execute((RetryCallback<Integer, Throwable>) context -> {
+			throw new IllegalStateException("Planned");
+		}, context -> (Integer) context.getAttribute(RetryContext.MAX_ATTEMPTS));
+		assertThat(result).isEqualTo(2);
+	}
+
 	private static class MockRetryCallback implements RetryCallback<Object, Exception> {
 
 		private int attempts;